@@ -0,0 +1,68 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This is the BenchmarkRunner class that runs the benchmarks with the gc profiler always attached,
+ * so every result also reports the allocation rate.
+ * The usual JMH command line options can be given, for example a benchmark name or -p size=1000.
+ * The JVM options that the build profile needs in every fork, like the Vector API module, are added to the ones given.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class BenchmarkRunner {
+
+    /**
+     * The main method runs the benchmarks.
+     * 
+     * @param args are the JMH command line options.
+     * @exception CommandLineOptionException if the command line options are not valid.
+     * @exception RunnerException if a benchmark fails.
+     * @exception IOException if the fork options of the build can not be read.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        List<String> forkArgs = forkJvmArgs();
+        if (!forkArgs.isEmpty()){
+            List<String> jvmArgs = new ArrayList<>(commandLine.getJvmArgsAppend().orElse(Collections.emptyList()));
+            jvmArgs.addAll(forkArgs);
+            options.jvmArgsAppend(jvmArgs.toArray(new String[0]));
+        }
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * The forkJvmArgs method reads the JVM options that the build profile adds to every fork.
+     * 
+     * @return the list of options, which is empty without a profile.
+     * @exception IOException if the options can not be read.
+     */
+    private static List<String> forkJvmArgs() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = BenchmarkRunner.class.getResourceAsStream("/fork.properties")){
+            if (in != null){
+                properties.load(in);
+            }
+        }
+        String jvmArgs = properties.getProperty("jvmArgsAppend", "").trim();
+        return jvmArgs.isEmpty() ? Collections.emptyList() : Arrays.asList(jvmArgs.split("\\s+"));
+    }
+}
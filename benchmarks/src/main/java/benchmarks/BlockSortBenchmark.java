@@ -0,0 +1,111 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engine.BlockSorter;
+import engine.BlockSorters;
+import engine.Distribution;
+import engine.InputGenerator;
+import engine.MergeSort;
+import engine.ScalarBlockSorter;
+
+/**
+ * This is the BlockSortBenchmark class that compares the scalar kernels of merge sort with the preferred ones, 
+ * which are the Vector API kernels when the benchmarks are built with the vector profile and the machine supports them.
+ * The leaves, the merges and the whole merge sort are measured separately.
+ * With the vector profile, BenchmarkRunner adds the jdk.incubator.vector module to every fork.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockSortBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"UNIFORM", "NEARLY_SORTED"})
+    private Distribution distribution;
+
+    @Param({"SCALAR", "PREFERRED"})
+    private String kernels;
+
+    private BlockSorter blockSorter;
+    private MergeSort mergeSort;
+    private int[] input;
+    private int[] halves; // the input with both halves sorted, for the merge benchmark
+    private int[] work;
+
+    /**
+     * The setUp method generates the input and picks the kernels once for every combination of parameters.
+     */
+    @Setup(Level.Trial)
+    public void setUp(){
+        blockSorter = kernels.equals("SCALAR") ? new ScalarBlockSorter() : BlockSorters.preferred();
+        mergeSort = new MergeSort(blockSorter);
+        InputGenerator generator = new InputGenerator(distribution);
+        generator.setSeed(42); // every run of a benchmark sorts the same numbers
+        input = generator.generate(size);
+        halves = input.clone();
+        Arrays.sort(halves, 0, size / 2);
+        Arrays.sort(halves, size / 2, size);
+        work = new int[size];
+    }
+
+    /**
+     * The sortBlocks method measures the leaves of merge sort: every block of the input is sorted.
+     * 
+     * @return the work array with sorted blocks, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] sortBlocks(){
+        System.arraycopy(input, 0, work, 0, size);
+        int block = blockSorter.getBlockLength();
+        for (int from = 0; from < size; from += block){
+            blockSorter.sortBlock(work, from, Math.min(from + block, size));
+        }
+        return work;
+    }
+
+    /**
+     * The merge method measures the merge kernel on the two sorted halves of the input.
+     * 
+     * @return the merged work array, so the merge is not removed as dead code.
+     */
+    @Benchmark
+    public int[] merge(){
+        blockSorter.merge(halves, 0, size / 2, size / 2, size, work, 0);
+        return work;
+    }
+
+    /**
+     * The mergeSort method measures the whole merge sort with the kernels.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] mergeSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        mergeSort.sort(work);
+        return work;
+    }
+}
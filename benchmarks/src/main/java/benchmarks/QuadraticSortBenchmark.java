@@ -0,0 +1,84 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engine.BubbleSort;
+import engine.Distribution;
+import engine.InputGenerator;
+import engine.SortAlgorithm;
+
+/**
+ * This is the QuadraticSortBenchmark class that measures the O(n^2) sorting algorithms of the engine against Arrays.sort.
+ * The sizes stop at 10^4, because bigger inputs take minutes for every invocation.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadraticSortBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    @Param({"UNIFORM", "SORTED", "REVERSED", "NEARLY_SORTED", "FEW_UNIQUE", "GAUSSIAN", "SAWTOOTH"})
+    private Distribution distribution;
+
+    private int[] input;
+    private int[] work;
+
+    private final SortAlgorithm bubbleSort = new BubbleSort();
+
+    /**
+     * The setUp method generates the input once for every combination of parameters.
+     */
+    @Setup(Level.Trial)
+    public void setUp(){
+        InputGenerator generator = new InputGenerator(distribution);
+        generator.setSeed(42); // every run of a benchmark sorts the same numbers
+        input = generator.generate(size);
+        work = new int[size];
+    }
+
+    /**
+     * The arraysSort method is the baseline: the dual-pivot quicksort of the JDK.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] arraysSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        Arrays.sort(work);
+        return work;
+    }
+
+    /**
+     * The bubbleSort method measures the bubble sort of the engine.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] bubbleSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        bubbleSort.sort(work);
+        return work;
+    }
+}
@@ -0,0 +1,157 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engine.CountingSort;
+import engine.Distribution;
+import engine.IncrementalQuickSort;
+import engine.InputGenerator;
+import engine.MergeSort;
+import engine.NaturalMergeSort;
+import engine.ParallelMergeSort;
+import engine.RadixSort;
+import engine.SortAlgorithm;
+
+/**
+ * This is the SortBenchmark class that measures the O(n log n) and linear-time sorting algorithms of the engine against Arrays.sort.
+ * Every invocation copies the input into a preallocated work array before sorting it, 
+ * so the copy costs the same for every algorithm and does not allocate.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"UNIFORM", "SORTED", "REVERSED", "NEARLY_SORTED", "FEW_UNIQUE", "GAUSSIAN", "SAWTOOTH"})
+    private Distribution distribution;
+
+    private int[] input;
+    private int[] work;
+
+    private final SortAlgorithm mergeSort = new MergeSort();
+    private final SortAlgorithm naturalMergeSort = new NaturalMergeSort();
+    private final SortAlgorithm incrementalQuickSort = new IncrementalQuickSort();
+    private final SortAlgorithm parallelMergeSort = new ParallelMergeSort();
+    private final SortAlgorithm countingSort = new CountingSort();
+    private final SortAlgorithm radixSort = new RadixSort();
+
+    /**
+     * The setUp method generates the input once for every combination of parameters.
+     */
+    @Setup(Level.Trial)
+    public void setUp(){
+        InputGenerator generator = new InputGenerator(distribution);
+        generator.setSeed(42); // every run of a benchmark sorts the same numbers
+        input = generator.generate(size);
+        work = new int[size];
+    }
+
+    /**
+     * The arraysSort method is the baseline: the dual-pivot quicksort of the JDK.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] arraysSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        Arrays.sort(work);
+        return work;
+    }
+
+    /**
+     * The mergeSort method measures the bottom-up merge sort of the engine.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] mergeSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        mergeSort.sort(work);
+        return work;
+    }
+
+    /**
+     * The naturalMergeSort method measures the adaptive merge sort of the engine, which merges the runs already in the input, 
+     * so it should be close to linear on the sorted, nearly sorted and sawtooth inputs.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] naturalMergeSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        naturalMergeSort.sort(work);
+        return work;
+    }
+
+    /**
+     * The incrementalQuickSort method measures the incremental quicksort of the engine when it sorts every position.
+     * TopKBenchmark measures it when only the first positions are needed.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] incrementalQuickSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        incrementalQuickSort.sort(work);
+        return work;
+    }
+
+    /**
+     * The parallelMergeSort method measures the fork/join merge sort of the engine.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] parallelMergeSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        parallelMergeSort.sort(work);
+        return work;
+    }
+
+    /**
+     * The countingSort method measures the counting sort of the engine, which falls back to radix sort for wide key ranges.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] countingSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        countingSort.sort(work);
+        return work;
+    }
+
+    /**
+     * The radixSort method measures the LSD radix sort of the engine, which picks counting sort for narrow key ranges.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] radixSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        radixSort.sort(work);
+        return work;
+    }
+}
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engine.Distribution;
+import engine.IncrementalSort;
+import engine.InputGenerator;
+import engine.TopK;
+
+/**
+ * This is the TopKBenchmark class that measures how long it takes to get the k smallest values in order,
+ * with the incremental quicksort, with the bounded heap of TopK, and by sorting everything with Arrays.sort.
+ * The incremental quicksort should take O(n + k log k) time, so it should stay close to one partition of the input while k is small, 
+ * and TopK should stay close to one pass over the input.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopKBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"UNIFORM", "NEARLY_SORTED", "FEW_UNIQUE"})
+    private Distribution distribution;
+
+    private int[] input;
+    private int[] work;
+
+    /**
+     * This is the Selection class that holds how many of the smallest values are asked for.
+     * It is a state of its own, so only the benchmarks that take it run once for every k,
+     * and the arraysSort baseline runs once for every size and distribution.
+     */
+    @State(Scope.Thread)
+    public static class Selection {
+
+        @Param({"10", "1000", "100000"})
+        public int k;
+    }
+
+    /**
+     * The setUp method generates the input once for every combination of parameters.
+     */
+    @Setup(Level.Trial)
+    public void setUp(){
+        InputGenerator generator = new InputGenerator(distribution);
+        generator.setSeed(42); // every run of a benchmark sorts the same numbers
+        input = generator.generate(size);
+        work = new int[size];
+    }
+
+    /**
+     * The arraysSort method is the baseline: the whole input is sorted to read its first k positions.
+     * 
+     * @return the sorted work array, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] arraysSort(){
+        System.arraycopy(input, 0, work, 0, size);
+        Arrays.sort(work);
+        return work;
+    }
+
+    /**
+     * The sortTo method measures the incremental quicksort when it stops once the first k positions are sorted.
+     * The pivots are chosen with the same seed every time.
+     * 
+     * @param selection is the Selection that holds k.
+     * @return the work array with the sorted prefix, so the sort is not removed as dead code.
+     */
+    @Benchmark
+    public int[] sortTo(Selection selection){
+        System.arraycopy(input, 0, work, 0, size);
+        new IncrementalSort(work, new SplittableRandom(42)).sortTo(selection.k);
+        return work;
+    }
+
+    /**
+     * The topK method measures the bounded heap of TopK when the input is streamed into it as one batch.
+     * 
+     * @param selection is the Selection that holds k.
+     * @return the k smallest values in order, so the heap is not removed as dead code.
+     */
+    @Benchmark
+    public int[] topK(Selection selection){
+        TopK topK = new TopK(selection.k, false);
+        topK.addAll(input);
+        return topK.toSortedArray();
+    }
+}
@@ -0,0 +1,170 @@
+package engine;
+
+/**
+ * This is the Argsort class that sorts index permutations by primitive keys instead of sorting the keys themselves.
+ * The keys are packed into a long array, compared as unsigned numbers, and sorted together with the indices 
+ * by a stable least-significant-digit radix sort, so no object is touched while sorting.
+ * The encode methods turn int, long and double keys into longs whose unsigned order is the order of the keys.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public final class Argsort {
+
+    private static final int RADIX = 256;
+    private static final int BYTES = 8;
+    private static final int INSERTION_CUTOFF = 32;
+
+    private Argsort(){
+    }
+
+    /**
+     * The argsort method finds the permutation that sorts the keys, as unsigned longs.
+     * Equal keys keep their order, so the permutation is stable.
+     * 
+     * @param keys is the long array of keys, which is not changed.
+     * @return the int array of indices, where order[i] is the index of the key that comes i-th.
+     */
+    public static int[] argsort(long[] keys){
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++){
+            order[i] = i;
+        }
+        sort(keys, order);
+        return order;
+    }
+
+    /**
+     * The argsort method finds the permutation that sorts the int keys.
+     * 
+     * @param keys is the int array of keys, which is not changed.
+     * @return the int array of indices, where order[i] is the index of the key that comes i-th.
+     */
+    public static int[] argsort(int[] keys){
+        long[] encoded = new long[keys.length];
+        for (int i = 0; i < keys.length; i++){
+            encoded[i] = encode(keys[i]);
+        }
+        return argsort(encoded);
+    }
+
+    /**
+     * The argsort method finds the permutation that sorts the double keys, in the order of Double.compare.
+     * 
+     * @param keys is the double array of keys, which is not changed.
+     * @return the int array of indices, where order[i] is the index of the key that comes i-th.
+     */
+    public static int[] argsort(double[] keys){
+        long[] encoded = new long[keys.length];
+        for (int i = 0; i < keys.length; i++){
+            encoded[i] = encode(keys[i]);
+        }
+        return argsort(encoded);
+    }
+
+    /**
+     * The sort method reorders a permutation stably by the keys of its indices, as unsigned longs.
+     * Sorting by a less important key first and then by a more important key orders by both keys.
+     * 
+     * @param keys is the long array of keys, indexed by the values of the permutation, which is not changed.
+     * @param order is the int array of indices that is reordered.
+     */
+    public static void sort(long[] keys, int[] order){
+        int length = order.length;
+        long[] packed = new long[length]; // the keys in the order of the permutation, so the passes read them one after another
+        for (int i = 0; i < length; i++){
+            packed[i] = keys[order[i]];
+        }
+        if (length <= INSERTION_CUTOFF){
+            insertionSort(packed, order);
+            return;
+        }
+
+        int[] counts = new int[BYTES * RADIX]; // the histograms of the eight bytes, one after another
+        for (long key : packed){
+            for (int b = 0; b < BYTES; b++){
+                counts[b * RADIX + (int) ((key >>> (8 * b)) & 0xff)]++;
+            }
+        }
+        long[] sourceKeys = packed;
+        int[] sourceOrder = order;
+        long[] destinationKeys = new long[length];
+        int[] destinationOrder = new int[length];
+        for (int pass = 0; pass < BYTES; pass++){
+            int shift = 8 * pass;
+            int offset = pass * RADIX;
+            if (counts[offset + (int) ((sourceKeys[0] >>> shift) & 0xff)] == length){ // every key has the same byte
+                continue;
+            }
+            int position = 0;
+            for (int digit = 0; digit < RADIX; digit++){ // turn the histogram into the first position of every digit
+                int count = counts[offset + digit];
+                counts[offset + digit] = position;
+                position += count;
+            }
+            for (int i = 0; i < length; i++){
+                long key = sourceKeys[i];
+                int k = counts[offset + (int) ((key >>> shift) & 0xff)]++;
+                destinationKeys[k] = key;
+                destinationOrder[k] = sourceOrder[i];
+            }
+            long[] tempKeys = sourceKeys;
+            sourceKeys = destinationKeys;
+            destinationKeys = tempKeys;
+            int[] tempOrder = sourceOrder;
+            sourceOrder = destinationOrder;
+            destinationOrder = tempOrder;
+        }
+        if (sourceOrder != order){ // an odd number of passes left the result in the scratch array
+            System.arraycopy(sourceOrder, 0, order, 0, length);
+        }
+    }
+
+    /**
+     * The encode method turns an int key into a long whose unsigned order is the order of the ints.
+     * The result only uses the lowest 32 bits, so another key can be packed above it.
+     * 
+     * @param key is an integer value which is the key.
+     * @return the encoded key.
+     */
+    public static long encode(int key){
+        return (key ^ 0x80000000) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * The encode method turns a long key into a long whose unsigned order is the order of the longs.
+     * 
+     * @param key is a long value which is the key.
+     * @return the encoded key.
+     */
+    public static long encode(long key){
+        return key ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * The encode method turns a double key into a long whose unsigned order is the order of Double.compare: 
+     * -0.0 comes before 0.0, and NaN comes after positive infinity.
+     * 
+     * @param key is a double value which is the key.
+     * @return the encoded key.
+     */
+    public static long encode(double key){
+        long bits = Double.doubleToLongBits(key); // every NaN has the same bits
+        return (bits < 0) ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    private static void insertionSort(long[] keys, int[] order){
+        for (int i = 1; i < keys.length; i++){
+            long key = keys[i];
+            int index = order[i];
+            int j = i - 1;
+            while (j >= 0 && Long.compareUnsigned(keys[j], key) > 0){
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            order[j + 1] = index;
+        }
+    }
+}
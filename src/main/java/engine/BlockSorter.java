@@ -0,0 +1,60 @@
+package engine;
+
+/**
+ * This is the BlockSorter interface for the kernels that merge sort uses when nobody is listening:
+ * sorting the short blocks at the leaves, and merging two sorted ranges.
+ * The kernels do not report their operations, so they are only used by sorts without a listener.
+ * A faster implementation, for example one using SIMD instructions, can be added with a ServiceLoader,
+ * and BlockSorters picks it over the scalar one when it is supported on the machine.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public interface BlockSorter {
+
+    /**
+     * The getName method is the getter method for the name of the kernels.
+     * 
+     * @return the String of the name, for example "Scalar".
+     */
+    String getName();
+
+    /**
+     * The isSupported method checks if the kernels can run fast on this machine and Java runtime.
+     * 
+     * @return true if the kernels can be used.
+     */
+    default boolean isSupported(){
+        return true;
+    }
+
+    /**
+     * The getBlockLength method is the getter method for the length of the blocks sorted at the leaves of merge sort.
+     * 
+     * @return the block length, which is 8, 16 or 32.
+     */
+    int getBlockLength();
+
+    /**
+     * The sortBlock method sorts the range [from, to) of the array, which is not longer than the block length.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param from is an integer value which is the first index of the block (inclusive).
+     * @param to is an integer value which is the last index of the block (exclusive).
+     */
+    void sortBlock(int[] values, int from, int to);
+
+    /**
+     * The merge method merges the sorted ranges [from1, to1) and [from2, to2) of the source into the destination,
+     * starting at the index at. The destination range must not overlap the source ranges.
+     * 
+     * @param source is the int array that holds the two sorted ranges.
+     * @param from1 is an integer value which is the first index of the first range.
+     * @param to1 is an integer value which is the end of the first range (exclusive).
+     * @param from2 is an integer value which is the first index of the second range.
+     * @param to2 is an integer value which is the end of the second range (exclusive).
+     * @param destination is the int array that receives the merged elements.
+     * @param at is an integer value which is the index of the destination where the first element is written.
+     */
+    void merge(int[] source, int from1, int to1, int from2, int to2, int[] destination, int at);
+}
@@ -0,0 +1,51 @@
+package engine;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * This is the BlockSorters class that discovers the BlockSorter kernels of merge sort with a ServiceLoader.
+ * The first kernels that are supported on this machine are used, and ScalarBlockSorter is the fallback.
+ * Kernels that need a module which is not in the runtime, like jdk.incubator.vector without "--add-modules",
+ * fail to load and are skipped.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public final class BlockSorters {
+
+    private static BlockSorter preferred;
+
+    private BlockSorters(){
+    }
+
+    /**
+     * The preferred method is the getter method for the fastest kernels that are supported.
+     * The kernels are discovered the first time this method is called.
+     * 
+     * @return the BlockSorter that merge sort uses.
+     */
+    public static synchronized BlockSorter preferred(){
+        if (preferred == null){
+            Iterator<BlockSorter> found = ServiceLoader.load(BlockSorter.class).iterator();
+            while (preferred == null){
+                try{
+                    if (!found.hasNext()){
+                        break;
+                    }
+                    BlockSorter blockSorter = found.next();
+                    if (blockSorter.isSupported()){
+                        preferred = blockSorter;
+                    }
+                } catch (ServiceConfigurationError | LinkageError e){
+                    // the kernels cannot run here, so try the next ones
+                }
+            }
+            if (preferred == null){
+                preferred = new ScalarBlockSorter();
+            }
+        }
+        return preferred;
+    }
+}
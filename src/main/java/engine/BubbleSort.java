@@ -0,0 +1,149 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This is the BubbleSort class that contains the bubble sort algorithm over an int array.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class BubbleSort implements SortAlgorithm {
+
+    private static final String NAME = "Bubble Sort";
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return "Bubble Sort".
+     */
+    @Override
+    public String getName(){
+        return NAME;
+    }
+
+    /**
+     * The getCapabilities method is the getter method for the capabilities of bubble sort.
+     * 
+     * @return the set of SortCapability of the algorithm.
+     */
+    @Override
+    public Set<SortCapability> getCapabilities(){
+        return EnumSet.of(SortCapability.STABLE, SortCapability.IN_PLACE, SortCapability.STEPPABLE);
+    }
+
+    /**
+     * The sort method contains the bubble sort algorithm.
+     * Every pass moves the biggest remaining element to the end of the array.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    @Override
+    public void sort(int[] values, SortListener listener){
+        int pass = 0;
+        for (int end = values.length; end > 1; pass++){
+            SortPassEvent event = new SortPassEvent(NAME, pass, end);
+            event.begin();
+            int lastSwap = 0;
+            for (int j = 1; j < end; j++){
+                if (compareAndSwap(values, j-1, j, listener)){
+                    lastSwap = j;
+                }
+            }
+            event.commit();
+            end = lastSwap; // the elements from the last swap on are in place, and a pass without swaps ends the sort
+        }
+    }
+
+    /**
+     * The stepper method creates a SortStepper that runs bubble sort on the array one comparison at a time.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @return the SortStepper of bubble sort.
+     */
+    @Override
+    public SortStepper stepper(int[] values){
+        return new Stepper(values);
+    }
+
+    /**
+     * The compareAndSwap method compares two elements and swaps them if they are out of order.
+     * This is the single step of bubble sort.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param index1 is an integer value which is the index of the first element.
+     * @param index2 is an integer value which is the index of the second element.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     * @return true if the two elements were swapped.
+     */
+    public static boolean compareAndSwap(int[] values, int index1, int index2, SortListener listener){
+        if (listener != null){
+            listener.onCompare(index1, index2);
+        }
+        if (values[index1] > values[index2]){
+            int temp = values[index1];
+            values[index1] = values[index2];
+            values[index2] = temp;
+            if (listener != null){
+                listener.onSwap(index1, index2);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * This is the Stepper class that keeps the position of bubble sort between steps.
+     * Every step compares one pair of neighbours, and every pass ends at the last swap of the pass before.
+     */
+    private static class Stepper implements SortStepper {
+
+        private final int[] values;
+        private int end;
+        private int index = 1;
+        private int lastSwap;
+        private int pass;
+        private SortPassEvent passEvent;
+
+        /**
+         * The Stepper method is the default constructer of Stepper class.
+         * 
+         * @param valuesIn is the int array that needs to be sorted.
+         */
+        Stepper(int[] valuesIn){
+            this.values = valuesIn;
+            this.end = valuesIn.length;
+        }
+
+        @Override
+        public boolean isDone(){
+            return end < 2;
+        }
+
+        @Override
+        public boolean step(SortListener listener){
+            if (isDone()){
+                return false;
+            }
+            if (index == 1){ // the first step of a pass
+                passEvent = new SortPassEvent(NAME, pass, end);
+                passEvent.begin();
+                lastSwap = 0;
+            }
+            if (compareAndSwap(values, index-1, index, listener)){
+                lastSwap = index;
+            }
+            index++;
+            if (index < end){
+                return false;
+            }
+            index = 1; // the elements from the last swap on are in place, and a pass without swaps ends the sort
+            end = lastSwap;
+            pass++;
+            passEvent.commit();
+            return true;
+        }
+    }
+}
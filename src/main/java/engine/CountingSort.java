@@ -0,0 +1,107 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This is the CountingSort class that contains the counting sort algorithm over an int array.
+ * It counts how many times every key between the smallest and the biggest element occurs, 
+ * and writes the keys back in order, so it runs in linear time when the range of the keys is small compared with the length.
+ * If the range is bigger than the length, walking the histogram would cost more than sorting, so the array is sorted with RadixSort instead.
+ * The histogram and the scratch array of radix sort are allocated once for every call, and reused by all of its passes;
+ * they are not kept between calls, so one instance can sort on several threads at the same time.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class CountingSort implements SortAlgorithm {
+
+    public static final int MAX_RANGE = 1 << 24; // the biggest histogram allocated, 64 MB, even for longer arrays
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return "Counting Sort".
+     */
+    @Override
+    public String getName(){
+        return "Counting Sort";
+    }
+
+    /**
+     * The getCapabilities method is the getter method for the capabilities of counting sort.
+     * 
+     * @return the set of SortCapability of the algorithm.
+     */
+    @Override
+    public Set<SortCapability> getCapabilities(){
+        return EnumSet.of(SortCapability.STABLE);
+    }
+
+    /**
+     * The sort method sorts the array with counting sort if the range of the keys is small compared with its length, 
+     * and with RadixSort otherwise.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    @Override
+    public void sort(int[] values, SortListener listener){
+        if (values.length < 2){
+            return;
+        }
+        int min = values[0];
+        int max = values[0];
+        for (int value : values){
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        long range = (long) max - min + 1;
+        if (fits(range, values.length)){
+            sort(values, min, (int) range, listener);
+        } else{
+            RadixSort.sort(values, new int[values.length], listener);
+        }
+    }
+
+    /**
+     * The fits method checks if counting sort is the faster choice: 
+     * the range of the keys is not bigger than the length of the array, and the histogram is not bigger than MAX_RANGE.
+     * 
+     * @param range is a long value which is the number of different keys that can occur.
+     * @param length is an integer value which is the length of the array.
+     * @return true if the array should be sorted with counting sort.
+     */
+    static boolean fits(long range, int length){
+        return range <= length && range <= MAX_RANGE;
+    }
+
+    /**
+     * The sort method sorts an array whose keys are all in [min, min + range) with counting sort.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param min is an integer value which is the smallest key.
+     * @param range is an integer value which is the number of different keys that can occur.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    static void sort(int[] values, int min, int range, SortListener listener){
+        int[] counts = new int[range];
+        if (listener != null){
+            listener.onAllocate((long) range * Integer.BYTES);
+        }
+        for (int value : values){
+            counts[value - min]++;
+        }
+        int k = 0;
+        for (int key = 0; key < range; key++){
+            int value = key + min;
+            for (int count = counts[key]; count > 0; count--){
+                values[k] = value;
+                if (listener != null){
+                    listener.onWrite(k, value);
+                }
+                k++;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package engine;
+
+/**
+ * This is the Distribution enum that lists the kinds of input the InputGenerator creates.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public enum Distribution {
+    UNIFORM("Uniform"), // every key of the range is equally likely
+    SORTED("Sorted"), // ascending, spread evenly over the range
+    REVERSED("Reversed"), // descending, spread evenly over the range
+    NEARLY_SORTED("Nearly sorted"), // sorted, then a number of random swaps
+    FEW_UNIQUE("Few unique"), // a few keys spread evenly over the range, repeated at random
+    GAUSSIAN("Gaussian"), // a bell curve around the middle of the range, six standard deviations wide
+    SAWTOOTH("Sawtooth"); // a number of ascending runs, each over the whole range
+
+    private final String name;
+
+    Distribution(String nameIn){
+        this.name = nameIn;
+    }
+
+    /**
+     * The getName method is the getter method for the name of the distribution shown to the user.
+     * 
+     * @return name is the name of the distribution.
+     */
+    public String getName(){
+        return name;
+    }
+
+    @Override
+    public String toString(){
+        return name;
+    }
+}
@@ -0,0 +1,402 @@
+package engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is the ExternalSort class that sorts binary files of ints that are bigger than the heap.
+ * The input is cut into runs that fit in memory, each run is sorted with a SortAlgorithm of the engine 
+ * and spilled to a temporary file, and the runs are then merged with a loser tree over memory-mapped windows of the files.
+ * If there are more runs than the fan-in, they are merged in several passes.
+ * Files hold 4-byte big-endian ints, the format written by DataOutputStream.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class ExternalSort {
+
+    public static final int DEFAULT_RUN_SIZE = 1 << 24; // 64 MB of ints
+    public static final int DEFAULT_FAN_IN = 64;
+
+    private static final int WINDOW_INTS = 1 << 21; // every file is mapped 8 MB at a time
+    private static final int PROGRESS_INTERVAL = 1 << 20; // merge progress is reported every million elements
+
+    private final SortAlgorithm runSorter;
+    private final int runSize;
+    private final int fanIn;
+    private Path tempDirectory;
+    private ExternalSortListener listener;
+
+    /**
+     * The ExternalSort method is the default constructer of ExternalSort class.
+     * It sorts the runs with MergeSort and uses the default run size and fan-in.
+     */
+    public ExternalSort(){
+        this(new MergeSort(), DEFAULT_RUN_SIZE, DEFAULT_FAN_IN);
+    }
+
+    /**
+     * The ExternalSort method is the constructer of ExternalSort class with a chosen algorithm, run size and fan-in.
+     * 
+     * @param runSorterIn is the SortAlgorithm that sorts every run in memory.
+     * @param runSizeIn is a positive integer value which is the number of ints in a run.
+     * @param fanInIn is an integer value of at least 2 which is the number of runs merged at once.
+     */
+    public ExternalSort(SortAlgorithm runSorterIn, int runSizeIn, int fanInIn){
+        if (runSizeIn <= 0){
+            throw new IllegalArgumentException("runSize must be positive: " + runSizeIn);
+        }
+        if (fanInIn < 2){
+            throw new IllegalArgumentException("fanIn must be at least 2: " + fanInIn);
+        }
+        this.runSorter = runSorterIn;
+        this.runSize = runSizeIn;
+        this.fanIn = fanInIn;
+    }
+
+    /**
+     * The setTempDirectory method sets the directory of the temporary run files.
+     * 
+     * @param tempDirectoryIn is the directory, or null for the default temporary directory.
+     */
+    public void setTempDirectory(Path tempDirectoryIn){
+        this.tempDirectory = tempDirectoryIn;
+    }
+
+    /**
+     * The setListener method sets the listener that receives the progress of the sort.
+     * 
+     * @param listenerIn is the ExternalSortListener, or null if nobody is listening.
+     */
+    public void setListener(ExternalSortListener listenerIn){
+        this.listener = listenerIn;
+    }
+
+    /**
+     * The sort method sorts the ints of the input file into the output file.
+     * The temporary run files are deleted when the sort finishes or fails.
+     * 
+     * @param input is the path of the binary file that is sorted.
+     * @param output is the path of the binary file that is written, replaced if it exists.
+     * @exception IOException if a file can not be read or written, or if the input is not a whole number of ints.
+     */
+    public void sort(Path input, Path output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            long total;
+            try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)){
+                long bytes = in.size();
+                if (bytes % Integer.BYTES != 0){
+                    throw new IOException(input + " has " + bytes + " bytes, which is not a whole number of ints");
+                }
+                total = bytes / Integer.BYTES;
+                if (total <= runSize){ // everything fits in one run, so there is nothing to merge
+                    int[] values = new int[(int) total];
+                    read(in, 0, values);
+                    runSorter.sort(values);
+                    write(output, values);
+                    if (listener != null){
+                        listener.onRunSorted(0, total, total);
+                    }
+                    return;
+                }
+                int[] values = new int[runSize];
+                for (long start = 0; start < total; start += runSize){
+                    if (total - start < runSize){ // the last run is shorter
+                        values = new int[(int) (total - start)];
+                    }
+                    read(in, start, values);
+                    runSorter.sort(values);
+                    Path run = createRunFile();
+                    runs.add(run);
+                    write(run, values);
+                    if (listener != null){
+                        listener.onRunSorted(runs.size() - 1, start + values.length, total);
+                    }
+                }
+            }
+
+            int pass = 0;
+            while (runs.size() > fanIn){ // merge groups of runs until one more pass can merge them all
+                pass++;
+                List<Path> merged = new ArrayList<>();
+                long done = 0;
+                for (int from = 0; from < runs.size(); from += fanIn){
+                    List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                    Path run = createRunFile();
+                    merged.add(run);
+                    done = merge(group, run, pass, done, total);
+                }
+                for (Path run : runs){
+                    Files.deleteIfExists(run);
+                }
+                runs = merged;
+            }
+            merge(runs, output, pass + 1, 0, total);
+        }
+        finally {
+            for (Path run : runs){
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * The merge method merges the sorted run files into the output file with a loser tree.
+     * 
+     * @param runFiles are the paths of the sorted run files.
+     * @param output is the path of the file that is written.
+     * @param pass is an integer value which is the merge pass reported to the listener.
+     * @param done is a long value which is the number of elements already merged in this pass.
+     * @param total is a long value which is the number of elements of the input.
+     * @exception IOException if a file can not be read or written.
+     * @return the number of elements merged in this pass, including this merge.
+     */
+    private long merge(List<Path> runFiles, Path output, int pass, long done, long total) throws IOException {
+        List<RunReader> readers = new ArrayList<>();
+        try {
+            long length = 0;
+            for (Path run : runFiles){
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                length += reader.remaining;
+            }
+            LoserTree tree = new LoserTree(readers.toArray(new RunReader[0]));
+            try (RunWriter writer = new RunWriter(output, length)){
+                for (long i = 0; i < length; i++){
+                    writer.put(tree.next());
+                    if (listener != null && ((done + i + 1) % PROGRESS_INTERVAL == 0)){
+                        listener.onMergeProgress(pass, done + i + 1, total);
+                    }
+                }
+            }
+            done += length;
+            if (listener != null){
+                listener.onMergeProgress(pass, done, total);
+            }
+            return done;
+        }
+        finally {
+            for (RunReader reader : readers){
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * The createRunFile method creates an empty temporary file for a run.
+     * 
+     * @exception IOException if the file can not be created.
+     * @return the path of the file.
+     */
+    private Path createRunFile() throws IOException {
+        return (tempDirectory == null) ? Files.createTempFile("run", ".bin") : Files.createTempFile(tempDirectory, "run", ".bin");
+    }
+
+    /**
+     * The read method reads the ints starting at an index of the channel into the whole array.
+     * 
+     * @param in is the channel that is read.
+     * @param start is a long value which is the index of the first int read.
+     * @param values is the int array that is filled.
+     * @exception IOException if the channel can not be mapped.
+     */
+    private static void read(FileChannel in, long start, int[] values) throws IOException {
+        for (int from = 0; from < values.length; from += WINDOW_INTS){
+            int length = Math.min(WINDOW_INTS, values.length - from);
+            IntBuffer window = in.map(FileChannel.MapMode.READ_ONLY, (start + from) * Integer.BYTES, (long) length * Integer.BYTES).asIntBuffer();
+            window.get(values, from, length);
+        }
+    }
+
+    /**
+     * The write method writes the whole array into a file.
+     * 
+     * @param path is the path of the file that is written, replaced if it exists.
+     * @param values is the int array that is written.
+     * @exception IOException if the file can not be written.
+     */
+    private static void write(Path path, int[] values) throws IOException {
+        try (RunWriter writer = new RunWriter(path, values.length)){
+            writer.put(values);
+        }
+    }
+
+    /**
+     * This is the RunReader class that reads the ints of a run file through memory-mapped windows.
+     */
+    private static class RunReader implements Closeable {
+
+        private final FileChannel channel;
+        private long position; // the index of the first int after the current window
+        private long remaining; // the number of ints after the current window
+        private IntBuffer window = IntBuffer.allocate(0);
+
+        RunReader(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.remaining = channel.size() / Integer.BYTES;
+        }
+
+        /**
+         * The hasNext method checks if there is an int left, mapping the next window if the current one is used up.
+         * 
+         * @exception IOException if the next window can not be mapped.
+         * @return true if there is an int left.
+         */
+        boolean hasNext() throws IOException {
+            if (window.hasRemaining()){
+                return true;
+            }
+            if (remaining == 0){
+                return false;
+            }
+            int length = (int) Math.min(WINDOW_INTS, remaining);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position * Integer.BYTES, (long) length * Integer.BYTES).asIntBuffer();
+            position += length;
+            remaining -= length;
+            return true;
+        }
+
+        int next(){
+            return window.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * This is the RunWriter class that writes a file of a known number of ints through memory-mapped windows.
+     * Every window is mapped with its exact size, so the file never has to be truncated.
+     */
+    private static class RunWriter implements Closeable {
+
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+        private IntBuffer window = IntBuffer.allocate(0);
+
+        RunWriter(Path path, long length) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                            StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.remaining = length;
+        }
+
+        void put(int value) throws IOException {
+            if (!window.hasRemaining()){
+                nextWindow();
+            }
+            window.put(value);
+        }
+
+        void put(int[] values) throws IOException {
+            for (int from = 0; from < values.length; ){
+                if (!window.hasRemaining()){
+                    nextWindow();
+                }
+                int length = Math.min(window.remaining(), values.length - from);
+                window.put(values, from, length);
+                from += length;
+            }
+        }
+
+        private void nextWindow() throws IOException {
+            if (remaining == 0){
+                throw new IOException("more ints written than the length of the file");
+            }
+            int length = (int) Math.min(WINDOW_INTS, remaining);
+            window = channel.map(FileChannel.MapMode.READ_WRITE, position * Integer.BYTES, (long) length * Integer.BYTES).asIntBuffer();
+            position += length;
+            remaining -= length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * This is the LoserTree class that finds the smallest head of k runs with about log2(k) comparisons per element.
+     * Every inner node keeps the run that lost the match at that node, and node 0 keeps the overall winner.
+     * Equal heads are taken from the run with the lower index, so the merge is stable.
+     */
+    private static class LoserTree {
+
+        private final RunReader[] runs;
+        private final int[] heads;
+        private final boolean[] exhausted;
+        private final int[] tree;
+
+        LoserTree(RunReader[] runsIn) throws IOException {
+            this.runs = runsIn;
+            int k = runsIn.length;
+            this.heads = new int[k];
+            this.exhausted = new boolean[k];
+            this.tree = new int[k];
+            for (int i = 0; i < k; i++){
+                advance(i);
+            }
+            tree[0] = build(1);
+        }
+
+        /**
+         * The next method takes the smallest head and replays the matches on the path of its run.
+         * 
+         * @exception IOException if the next window of the run can not be mapped.
+         * @return the smallest head.
+         */
+        int next() throws IOException {
+            int winner = tree[0];
+            int value = heads[winner];
+            advance(winner);
+            for (int node = (winner + runs.length) >>> 1; node > 0; node >>>= 1){
+                if (less(tree[node], winner)){
+                    int temp = tree[node];
+                    tree[node] = winner;
+                    winner = temp;
+                }
+            }
+            tree[0] = winner;
+            return value;
+        }
+
+        private int build(int node){
+            if (node >= runs.length){ // a leaf
+                return node - runs.length;
+            }
+            int a = build(2 * node);
+            int b = build(2 * node + 1);
+            if (less(a, b)){
+                tree[node] = b;
+                return a;
+            }
+            tree[node] = a;
+            return b;
+        }
+
+        private void advance(int run) throws IOException {
+            if (runs[run].hasNext()){
+                heads[run] = runs[run].next();
+            } else{
+                exhausted[run] = true;
+            }
+        }
+
+        private boolean less(int a, int b){
+            if (exhausted[a] || exhausted[b]){
+                return !exhausted[a];
+            }
+            return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package engine;
+
+/**
+ * This is the ExternalSortListener interface that receives the progress of an ExternalSort.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public interface ExternalSortListener {
+
+    /**
+     * The onRunSorted method is called after a run was sorted and written to its temporary file.
+     * 
+     * @param run is an integer value which is the index of the run, starting at 0.
+     * @param sorted is a long value which is the number of elements sorted into runs so far.
+     * @param total is a long value which is the number of elements of the input.
+     */
+    void onRunSorted(int run, long sorted, long total);
+
+    /**
+     * The onMergeProgress method is called regularly while runs are merged.
+     * 
+     * @param pass is an integer value which is the merge pass, starting at 1. The last pass writes the output.
+     * @param merged is a long value which is the number of elements merged in this pass so far.
+     * @param total is a long value which is the number of elements of the input.
+     */
+    void onMergeProgress(int pass, long merged, long total);
+}
@@ -0,0 +1,106 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * This is the IncrementalQuickSort class that contains the incremental quicksort algorithm over an int array.
+ * The smallest values are put in their final positions first, and the sorted prefix grows until the whole array is sorted,
+ * so the first results can be shown long before the sort finishes. The sort itself is done by IncrementalSort.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class IncrementalQuickSort implements SortAlgorithm {
+
+    private static final String NAME = "Incremental Quick Sort";
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return "Incremental Quick Sort".
+     */
+    @Override
+    public String getName(){
+        return NAME;
+    }
+
+    /**
+     * The getCapabilities method is the getter method for the capabilities of incremental quicksort.
+     * 
+     * @return the set of SortCapability of the algorithm.
+     */
+    @Override
+    public Set<SortCapability> getCapabilities(){
+        return EnumSet.of(SortCapability.IN_PLACE, SortCapability.STEPPABLE);
+    }
+
+    /**
+     * The sort method sorts every position of the array with IncrementalSort, reporting the sorted prefix as it grows.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    @Override
+    public void sort(int[] values, SortListener listener){
+        new IncrementalSort(values).sortTo(values.length, listener);
+    }
+
+    /**
+     * The stepper method creates a SortStepper that runs incremental quicksort on the array one comparison at a time.
+     * A pass of the stepper lasts until the sorted prefix grows.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @return the SortStepper of incremental quicksort.
+     */
+    @Override
+    public SortStepper stepper(int[] values){
+        return new Stepper(values);
+    }
+
+    /**
+     * This is the Stepper class that runs an IncrementalSort one step at a time, and ends a pass every time the sorted prefix grows.
+     * Ranges are partitioned down to single values, without insertion sort, so every step is at most one comparison.
+     */
+    private static class Stepper implements SortStepper {
+
+        private final int length;
+        private final IncrementalSort sort;
+        private int pass;
+        private SortPassEvent passEvent;
+
+        /**
+         * The Stepper method is the default constructer of Stepper class.
+         * 
+         * @param valuesIn is the int array that needs to be sorted.
+         */
+        Stepper(int[] valuesIn){
+            this.length = valuesIn.length;
+            this.sort = new IncrementalSort(valuesIn, new SplittableRandom(), 1);
+        }
+
+        @Override
+        public boolean isDone(){
+            return sort.isDone();
+        }
+
+        @Override
+        public boolean step(SortListener listener){
+            if (isDone()){
+                return false;
+            }
+            if (passEvent == null){
+                passEvent = new SortPassEvent(NAME, pass, length - sort.getSortedLength());
+                passEvent.begin();
+            }
+            if (!sort.step(listener)){
+                return false;
+            }
+            pass++;
+            passEvent.commit();
+            passEvent = null;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package engine;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * This is the IncrementalSort class that sorts an int array from the smallest value up, only as far as it is asked to.
+ * It is an incremental quicksort: a range is partitioned only when the next position to sort is in it,
+ * and the ends of the ranges that are still unsorted are kept on a stack.
+ * The first k positions cost O(n + k log k) time on average, so they can be shown long before the rest is sorted,
+ * and sorting every position costs the same as a quicksort.
+ * Equal values are partitioned into one block, which is final at once and never scanned again, 
+ * so lists with few unique values do not slow it down.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class IncrementalSort {
+
+    private static final int INSERTION_CUTOFF = 16; // shorter ranges are sorted with insertion sort
+
+    private final int[] values;
+    private final SplittableRandom random;
+    private final int insertionCutoff;
+    private int[] fences = new int[32]; // the ends of the unsorted ranges, the nearest on top, or ~end for a block equal to a pivot
+    private int depth;
+    private int sorted; // the positions before this index are sorted and final
+    private boolean partitioning; // a partition is stopped in the middle, between two steps
+    private int pivot;
+    private int lt; // [sorted, lt) is smaller, [lt, i) is equal and after gt is bigger than the pivot, up to the fence
+    private int i;
+    private int gt;
+
+    /**
+     * The IncrementalSort method is the default constructer of IncrementalSort class.
+     * 
+     * @param valuesIn is the int array that is sorted in place.
+     */
+    public IncrementalSort(int[] valuesIn){
+        this(valuesIn, new SplittableRandom());
+    }
+
+    /**
+     * The IncrementalSort method is the constructer of IncrementalSort class with a chosen source of pivots.
+     * 
+     * @param valuesIn is the int array that is sorted in place.
+     * @param randomIn is the SplittableRandom that chooses the pivots.
+     */
+    public IncrementalSort(int[] valuesIn, SplittableRandom randomIn){
+        this(valuesIn, randomIn, INSERTION_CUTOFF);
+    }
+
+    /**
+     * The IncrementalSort method is the constructer of IncrementalSort class with a chosen insertion sort cutoff.
+     * With a cutoff of 1, ranges are partitioned down to single values, so every step is at most one comparison.
+     * 
+     * @param valuesIn is the int array that is sorted in place.
+     * @param randomIn is the SplittableRandom that chooses the pivots.
+     * @param insertionCutoffIn is a positive integer value which is the length of the ranges sorted with insertion sort.
+     */
+    IncrementalSort(int[] valuesIn, SplittableRandom randomIn, int insertionCutoffIn){
+        this.values = valuesIn;
+        this.random = randomIn;
+        this.insertionCutoff = insertionCutoffIn;
+        this.fences[depth++] = valuesIn.length;
+    }
+
+    /**
+     * The getSortedLength method is the getter method for the length of the sorted prefix.
+     * 
+     * @return the number of positions at the start of the array that are sorted and final.
+     */
+    public int getSortedLength(){
+        return sorted;
+    }
+
+    /**
+     * The isDone method checks if the whole array is sorted.
+     * 
+     * @return true if every position is sorted.
+     */
+    public boolean isDone(){
+        return sorted >= values.length;
+    }
+
+    /**
+     * The sortTo method sorts the array until at least the first k positions hold the k smallest values in order.
+     * 
+     * @param k is an integer value which is the number of positions needed.
+     * @return the length of the sorted prefix, which can be more than k.
+     */
+    public int sortTo(int k){
+        return sortTo(k, null);
+    }
+
+    /**
+     * The sortTo method sorts the array until at least the first k positions hold the k smallest values in order,
+     * and reports its operations and the growing sorted prefix to the listener.
+     * 
+     * @param k is an integer value which is the number of positions needed.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     * @return the length of the sorted prefix, which can be more than k.
+     */
+    public int sortTo(int k, SortListener listener){
+        k = Math.min(k, values.length);
+        while (sorted < k){
+            advance(Integer.MAX_VALUE, listener);
+        }
+        return sorted;
+    }
+
+    /**
+     * The step method does the next comparison of the sort, so the sort can be animated one operation at a time.
+     * The insertion sort of a short range is one step, and so is moving the prefix over a range of one value.
+     * 
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     * @return true if the sorted prefix grew on this step.
+     */
+    public boolean step(SortListener listener){
+        return !isDone() && advance(1, listener);
+    }
+
+    /**
+     * The advance method continues the partition that is stopped in the middle, or starts the next one,
+     * and runs it for at most the given number of comparisons.
+     * 
+     * @param maxCompares is a positive integer value which is the most comparisons of the partition to run.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     * @return true if the sorted prefix grew.
+     */
+    private boolean advance(int maxCompares, SortListener listener){
+        if (!partitioning){
+            int fence = fences[depth - 1];
+            while (fence < 0 || fence <= sorted){
+                depth--;
+                if (fence < 0 && ~fence > sorted){ // a block of values equal to a pivot comes next, and it is in place
+                    return grow(~fence, listener);
+                }
+                fence = fences[depth - 1]; // drop the ranges that are sorted already
+            }
+            if (fence - sorted <= insertionCutoff){
+                insertionSort(sorted, fence, listener);
+                depth--;
+                return grow(fence, listener);
+            }
+            swap(sorted, sorted + random.nextInt(fence - sorted), listener);
+            pivot = values[sorted];
+            lt = sorted;
+            i = sorted + 1;
+            gt = fence - 1;
+            partitioning = true;
+        }
+        return partition(maxCompares, listener);
+    }
+
+    /**
+     * The partition method splits the range from sorted up to the fence around the pivot into the values smaller than the pivot,
+     * the values equal to it and the values bigger than it, and pushes the ends of the parts that are not sorted yet.
+     * It can stop after some comparisons and go on from there the next time.
+     * 
+     * @param maxCompares is a positive integer value which is the most comparisons to run.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     * @return true if the partition finished and the sorted prefix grew, because no value was smaller than the pivot.
+     */
+    private boolean partition(int maxCompares, SortListener listener){
+        int p = pivot, l = lt, k = i, g = gt; // locals, so the loop does not read and write the fields
+        for (int compares = 0; compares < maxCompares && k <= g; compares++){
+            if (listener != null){
+                listener.onCompare(k, l);
+            }
+            int value = values[k];
+            if (value < p){
+                swap(l++, k++, listener);
+            } else if (value > p){
+                swap(k, g--, listener);
+            } else{
+                k++;
+            }
+        }
+        lt = l;
+        i = k;
+        gt = g;
+        if (k <= g){ // stopped in the middle
+            return false;
+        }
+        partitioning = false;
+        if (l == sorted){ // the values equal to the pivot come next, and they are in place
+            return grow(g + 1, listener);
+        }
+        push(~(g + 1)); // the values equal to the pivot are in place once the smaller values are sorted
+        push(l);
+        return false;
+    }
+
+    /**
+     * The grow method moves the end of the sorted prefix and reports it.
+     * 
+     * @param length is an integer value which is the new length of the sorted prefix.
+     * @param listener is the SortListener that receives the sorted prefix, or null if nobody is listening.
+     * @return true, because the prefix grew.
+     */
+    private boolean grow(int length, SortListener listener){
+        sorted = length;
+        if (listener != null){
+            listener.onSortedPrefix(sorted);
+        }
+        return true;
+    }
+
+    /**
+     * The insertionSort method sorts the range [from, to) of the array with insertion sort, by swapping neighbours.
+     * 
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive).
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    private void insertionSort(int from, int to, SortListener listener){
+        for (int i = from + 1; i < to; i++){
+            for (int j = i; j > from; j--){
+                if (listener != null){
+                    listener.onCompare(j - 1, j);
+                }
+                if (values[j - 1] <= values[j]){
+                    break;
+                }
+                swap(j - 1, j, listener);
+            }
+        }
+    }
+
+    private void swap(int index1, int index2, SortListener listener){
+        if (index1 == index2){
+            return;
+        }
+        int temp = values[index1];
+        values[index1] = values[index2];
+        values[index2] = temp;
+        if (listener != null){
+            listener.onSwap(index1, index2);
+        }
+    }
+
+    private void push(int fence){
+        if (depth == fences.length){
+            fences = Arrays.copyOf(fences, 2 * depth);
+        }
+        fences[depth++] = fence;
+    }
+}
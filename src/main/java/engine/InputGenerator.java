@@ -0,0 +1,202 @@
+package engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This is the InputGenerator class that creates the int arrays the sorting algorithms sort.
+ * The array is filled in parallel on a ForkJoinPool: every task splits its SplittableRandom before forking, 
+ * so the same seed gives the same array no matter how the tasks are scheduled.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class InputGenerator {
+
+    public static final int DEFAULT_UNIQUE_KEYS = 8;
+    public static final int DEFAULT_TEETH = 8;
+
+    private static final int SEQUENTIAL_CUTOFF = 1 << 16;
+
+    private final Distribution distribution;
+    private final ForkJoinPool pool;
+    private long seed = System.nanoTime();
+    private int min = Integer.MIN_VALUE;
+    private int max = Integer.MAX_VALUE;
+    private int swaps = -1; // -1 for one percent of the size
+    private int uniqueKeys = DEFAULT_UNIQUE_KEYS;
+    private int teeth = DEFAULT_TEETH;
+
+    /**
+     * The InputGenerator method is the default constructer of InputGenerator class.
+     * It uses the common ForkJoinPool, a seed from the clock and the whole int range.
+     * 
+     * @param distributionIn is the Distribution of the arrays created.
+     */
+    public InputGenerator(Distribution distributionIn){
+        this(distributionIn, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * The InputGenerator method is the constructer of InputGenerator class with a chosen pool.
+     * 
+     * @param distributionIn is the Distribution of the arrays created.
+     * @param poolIn is the ForkJoinPool that fills the arrays.
+     */
+    public InputGenerator(Distribution distributionIn, ForkJoinPool poolIn){
+        this.distribution = distributionIn;
+        this.pool = poolIn;
+    }
+
+    /**
+     * The setSeed method sets the seed, so the same arrays can be created again.
+     * 
+     * @param seedIn is a long value which is the seed of the random numbers.
+     */
+    public void setSeed(long seedIn){
+        this.seed = seedIn;
+    }
+
+    /**
+     * The setRange method sets the smallest and the largest key of the arrays created.
+     * 
+     * @param minIn is an integer value which is the smallest key.
+     * @param maxIn is an integer value which is the largest key, not smaller than minIn.
+     */
+    public void setRange(int minIn, int maxIn){
+        if (maxIn < minIn){
+            throw new IllegalArgumentException("the largest key " + maxIn + " is smaller than the smallest key " + minIn);
+        }
+        this.min = minIn;
+        this.max = maxIn;
+    }
+
+    /**
+     * The setSwaps method sets the number of random swaps of the nearly sorted distribution.
+     * 
+     * @param swapsIn is a non-negative integer value which is the number of swaps, or -1 for one percent of the size.
+     */
+    public void setSwaps(int swapsIn){
+        if (swapsIn < -1){
+            throw new IllegalArgumentException("swaps must not be negative: " + swapsIn);
+        }
+        this.swaps = swapsIn;
+    }
+
+    /**
+     * The setUniqueKeys method sets the number of different keys of the few unique distribution.
+     * 
+     * @param uniqueKeysIn is a positive integer value which is the number of keys.
+     */
+    public void setUniqueKeys(int uniqueKeysIn){
+        if (uniqueKeysIn <= 0){
+            throw new IllegalArgumentException("uniqueKeys must be positive: " + uniqueKeysIn);
+        }
+        this.uniqueKeys = uniqueKeysIn;
+    }
+
+    /**
+     * The setTeeth method sets the number of ascending runs of the sawtooth distribution.
+     * 
+     * @param teethIn is a positive integer value which is the number of runs.
+     */
+    public void setTeeth(int teethIn){
+        if (teethIn <= 0){
+            throw new IllegalArgumentException("teeth must be positive: " + teethIn);
+        }
+        this.teeth = teethIn;
+    }
+
+    /**
+     * The generate method creates an array of the distribution.
+     * 
+     * @param size is a non-negative integer value which is the length of the array.
+     * @return the int array.
+     */
+    public int[] generate(int size){
+        if (size < 0){
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        int[] values = new int[size];
+        SplittableRandom random = new SplittableRandom(seed);
+        pool.invoke(new FillTask(values, 0, size, random.split()));
+        if (distribution == Distribution.NEARLY_SORTED && size > 1){
+            for (int k = (swaps < 0) ? Math.max(1, size / 100) : swaps; k > 0; k--){ // few swaps, so they are done sequentially
+                int a = random.nextInt(size);
+                int b = random.nextInt(size);
+                int temp = values[a];
+                values[a] = values[b];
+                values[b] = temp;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * The key method computes the key at an index of the distribution, without the swaps of the nearly sorted distribution.
+     * 
+     * @param index is an integer value which is the index in the array.
+     * @param size is an integer value which is the length of the array.
+     * @param random is the SplittableRandom of the task that fills the index.
+     * @return the key.
+     */
+    private int key(int index, int size, SplittableRandom random){
+        long span = (long) max - min + 1; // at most 2^32, so span * index fits in a long
+        switch (distribution){
+            case UNIFORM:
+                return (int) (min + random.nextLong(span));
+            case SORTED:
+            case NEARLY_SORTED:
+                return (int) (min + span * index / size);
+            case REVERSED:
+                return (int) (min + span * (size - 1 - index) / size);
+            case FEW_UNIQUE:
+                return (int) (min + span * random.nextInt(uniqueKeys) / uniqueKeys);
+            case GAUSSIAN:
+                double u = 1.0 - random.nextDouble(); // (0, 1], so the logarithm is finite
+                double gaussian = Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble()); // Box-Muller
+                double mean = min + (span - 1) / 2.0;
+                return (int) Math.max(min, Math.min(max, Math.round(mean + gaussian * span / 6)));
+            case SAWTOOTH:
+                long tooth = Math.max(1, (size + (long) teeth - 1) / teeth);
+                return (int) (min + span * (index % tooth) / tooth);
+            default:
+                throw new AssertionError(distribution);
+        }
+    }
+
+    /**
+     * This is the FillTask class that fills a range of the array, splitting it in half while it is longer than the cutoff.
+     */
+    private class FillTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] values;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        FillTask(int[] valuesIn, int fromIn, int toIn, SplittableRandom randomIn){
+            this.values = valuesIn;
+            this.from = fromIn;
+            this.to = toIn;
+            this.random = randomIn;
+        }
+
+        @Override
+        protected void compute(){
+            if (to - from <= SEQUENTIAL_CUTOFF){
+                for (int i = from; i < to; i++){
+                    values[i] = key(i, values.length, random);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            FillTask left = new FillTask(values, from, mid, random.split());
+            FillTask right = new FillTask(values, mid, to, random);
+            invokeAll(left, right);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This is the MergeSort class that contains the merge sort algorithm over an int array.
+ * The sort works bottom-up: every pass merges neighbouring sorted runs of one width into runs of twice the width, 
+ * using one auxiliary array for the whole sort instead of new arrays at every level.
+ * When nobody is listening, the first pass sorts blocks of a BlockSorter instead of starting from runs of one element, 
+ * and the merges use its kernel, which can use SIMD instructions.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class MergeSort implements SortAlgorithm {
+
+    private static final String NAME = "Merge Sort";
+
+    private final BlockSorter blockSorter;
+
+    /**
+     * The MergeSort method is the default constructer of MergeSort class.
+     * It uses the preferred BlockSorter when it sorts without a listener.
+     */
+    public MergeSort(){
+        this(null);
+    }
+
+    /**
+     * The MergeSort method is the constructer of MergeSort class with chosen kernels, for example to compare them.
+     * 
+     * @param blockSorterIn is the BlockSorter used when there is no listener, or null for the preferred one.
+     */
+    public MergeSort(BlockSorter blockSorterIn){
+        this.blockSorter = blockSorterIn;
+    }
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return "Merge Sort".
+     */
+    @Override
+    public String getName(){
+        return NAME;
+    }
+
+    /**
+     * The getCapabilities method is the getter method for the capabilities of merge sort.
+     * 
+     * @return the set of SortCapability of the algorithm.
+     */
+    @Override
+    public Set<SortCapability> getCapabilities(){
+        return EnumSet.of(SortCapability.STABLE, SortCapability.STEPPABLE);
+    }
+
+    /**
+     * The sort method contains the bottom-up merge sort algorithm.
+     * The auxiliary array is allocated once, so there is no allocation for each merge.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    @Override
+    public void sort(int[] values, SortListener listener){
+        int length = values.length;
+        if (length < 2){
+            return;
+        }
+        if (listener == null){
+            sortBlocks(values, new int[length], 0, length, blockSorter != null ? blockSorter : BlockSorters.preferred());
+            return;
+        }
+        listener.onAllocate((long) length * Integer.BYTES);
+        sortRange(values, new int[length], 0, length, listener);
+    }
+
+    /**
+     * The sortRange method sorts the range [from, to) of the array with bottom-up merge sort.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param aux is the int array used as temporary storage while merging, at least as long as the range.
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive).
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    static void sortRange(int[] values, int[] aux, int from, int to, SortListener listener){
+        if (listener == null){
+            sortBlocks(values, aux, from, to, BlockSorters.preferred());
+            return;
+        }
+        int pass = 0;
+        for (int width = 1; width < to - from; width *= 2){
+            SortPassEvent event = new SortPassEvent(NAME, pass++, to - from);
+            event.begin();
+            for (int left = from; left < to - width; left += 2 * width){
+                merge(values, aux, left, left + width, Math.min(left + 2 * width, to), listener);
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * The sortBlocks method sorts the range [from, to) of the array with bottom-up merge sort and the kernels of a BlockSorter.
+     * The blocks are sorted first, and merges of runs that are already in order are skipped.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param aux is the int array used as temporary storage while merging, at least as long as the range.
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive).
+     * @param blockSorter is the BlockSorter that sorts the blocks and merges the runs.
+     */
+    static void sortBlocks(int[] values, int[] aux, int from, int to, BlockSorter blockSorter){
+        int block = blockSorter.getBlockLength();
+        for (int left = from; left < to; left += block){
+            blockSorter.sortBlock(values, left, Math.min(left + block, to));
+        }
+        int pass = 0;
+        for (int width = block; width < to - from; width *= 2){
+            SortPassEvent event = new SortPassEvent(NAME, pass++, to - from);
+            event.begin();
+            for (int left = from; left < to - width; left += 2 * width){
+                int mid = left + width;
+                int right = Math.min(left + 2 * width, to);
+                if (values[mid-1] <= values[mid]){ // the runs are already in order
+                    continue;
+                }
+                System.arraycopy(values, left, aux, left, right - left);
+                blockSorter.merge(aux, left, mid, mid, right, values, left);
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * The stepper method creates a SortStepper that runs merge sort on the array one write at a time.
+     * A pass of the stepper merges every pair of runs of one width.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @return the SortStepper of merge sort.
+     */
+    @Override
+    public SortStepper stepper(int[] values){
+        return new Stepper(values);
+    }
+
+    /**
+     * The merge method merges the two sorted ranges [from, mid) and [mid, to) back into the array.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param aux is the int array used as temporary storage while merging.
+     * @param from is an integer value which is the first index of the left range.
+     * @param mid is an integer value which is the first index of the right range.
+     * @param to is an integer value which is the end of the right range (exclusive).
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    static void merge(int[] values, int[] aux, int from, int mid, int to, SortListener listener){
+        System.arraycopy(values, from, aux, from, to - from);
+        int i = from, j = mid, k = from;
+
+        while (i<mid && j<to){ // if neither of the halves are fully looped through
+            if (listener != null){
+                listener.onCompare(i, j);
+            }
+            values[k] = (aux[i] <= aux[j]) ? aux[i++] : aux[j++];
+            if (listener != null){
+                listener.onWrite(k, values[k]);
+            }
+            k++;
+        }
+        while (i<mid){ // if there is left over item in the left half
+            values[k] = aux[i++];
+            if (listener != null){
+                listener.onWrite(k, values[k]);
+            }
+            k++;
+        }
+        while (j<to){ // if there is left over item in the right half
+            values[k] = aux[j++];
+            if (listener != null){
+                listener.onWrite(k, values[k]);
+            }
+            k++;
+        }
+    }
+
+    /**
+     * This is the Stepper class that keeps the position of bottom-up merge sort between steps.
+     * Every step writes one element of the current merge, and every pass merges all the runs of one width.
+     */
+    private static class Stepper implements SortStepper {
+
+        private final int[] values;
+        private final int[] aux;
+        private int width = 1;
+        private int from; // the first index of the current merge
+        private int mid;
+        private int to;
+        private int i; // the next index of the left run
+        private int j; // the next index of the right run
+        private int k; // the next index written
+        private boolean merging;
+        private boolean started; // the auxiliary array is reported on the first step, when there is a listener
+        private int pass;
+        private SortPassEvent passEvent;
+
+        /**
+         * The Stepper method is the default constructer of Stepper class.
+         * 
+         * @param valuesIn is the int array that needs to be sorted.
+         */
+        Stepper(int[] valuesIn){
+            this.values = valuesIn;
+            this.aux = new int[valuesIn.length];
+        }
+
+        @Override
+        public boolean isDone(){
+            return width >= values.length;
+        }
+
+        @Override
+        public boolean step(SortListener listener){
+            if (isDone()){
+                return false;
+            }
+            if (!started && listener != null){
+                listener.onAllocate((long) aux.length * Integer.BYTES);
+            }
+            started = true;
+            if (from == 0 && !merging){ // the first step of a pass
+                passEvent = new SortPassEvent(NAME, pass, values.length);
+                passEvent.begin();
+            }
+            if (!merging){ // start the next merge of this pass
+                mid = from + width;
+                to = Math.min(from + 2 * width, values.length);
+                System.arraycopy(values, from, aux, from, to - from);
+                i = from;
+                j = mid;
+                k = from;
+                merging = true;
+            }
+
+            if (i<mid && j<to){
+                if (listener != null){
+                    listener.onCompare(i, j);
+                }
+                values[k] = (aux[i] <= aux[j]) ? aux[i++] : aux[j++];
+            } else if (i<mid){
+                values[k] = aux[i++];
+            } else{
+                values[k] = aux[j++];
+            }
+            if (listener != null){
+                listener.onWrite(k, values[k]);
+            }
+            k++;
+
+            if (k < to){
+                return false;
+            }
+            merging = false; // this merge is finished
+            from += 2 * width;
+            if (from < values.length - width){
+                return false;
+            }
+            from = 0; // every run of this width is merged
+            width *= 2;
+            pass++;
+            passEvent.commit();
+            return true;
+        }
+    }
+}
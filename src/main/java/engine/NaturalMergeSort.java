@@ -0,0 +1,459 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This is the NaturalMergeSort class that contains an adaptive merge sort, which merges the runs already in the array.
+ * Ascending runs are taken as they are, strictly descending runs are reversed, and runs shorter than the minimum run 
+ * are extended with binary insertion sort. The runs are merged in the order chosen by powersort: 
+ * every boundary between two runs gets a power from the midpoints of the runs, and a run on the stack is merged 
+ * as soon as a boundary with a smaller power is found, which keeps the merges balanced.
+ * A merge first skips the elements that are already in place, copies the shorter run into a buffer, 
+ * and gallops (takes a whole block found by exponential search) when one run keeps winning.
+ * A sorted array is one run and takes n - 1 comparisons, and an array with a few runs takes close to n.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class NaturalMergeSort implements SortAlgorithm {
+
+    private static final String NAME = "Natural Merge Sort";
+
+    static final int MIN_RUN = 32;
+    static final int MIN_GALLOP = 7;
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return "Natural Merge Sort".
+     */
+    @Override
+    public String getName(){
+        return NAME;
+    }
+
+    /**
+     * The getCapabilities method is the getter method for the capabilities of natural merge sort.
+     * 
+     * @return the set of SortCapability of the algorithm.
+     */
+    @Override
+    public Set<SortCapability> getCapabilities(){
+        return EnumSet.of(SortCapability.STABLE);
+    }
+
+    /**
+     * The sort method sorts the array with natural merge sort, and reports every run it finds to the listener.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    @Override
+    public void sort(int[] values, SortListener listener){
+        if (values.length < 2){
+            return;
+        }
+        new Merger(values, listener).sort();
+    }
+
+    /**
+     * This is the Merger class that keeps the run stack and the merge buffer of one sort.
+     */
+    private static class Merger {
+
+        private final int[] values;
+        private final SortListener listener;
+        private final int[] runStart = new int[64]; // the powers on the stack are increasing, so there are at most 32 runs on it
+        private final int[] runPower = new int[64];
+        private int stackSize;
+        private int[] buffer = new int[0];
+        private int merges;
+
+        Merger(int[] valuesIn, SortListener listenerIn){
+            this.values = valuesIn;
+            this.listener = listenerIn;
+        }
+
+        /**
+         * The sort method finds the runs from left to right and merges them in the order of powersort.
+         */
+        void sort(){
+            int length = values.length;
+            int start = 0;
+            int end = nextRun(0);
+            while (end < length){
+                int nextEnd = nextRun(end);
+                int power = power(start, end, nextEnd, length);
+                while (stackSize > 0 && runPower[stackSize - 1] > power){ // merge the runs below the new boundary first
+                    stackSize--;
+                    merge(runStart[stackSize], start, end);
+                    start = runStart[stackSize];
+                }
+                runStart[stackSize] = start;
+                runPower[stackSize] = power;
+                stackSize++;
+                start = end;
+                end = nextEnd;
+            }
+            while (stackSize > 0){
+                stackSize--;
+                merge(runStart[stackSize], start, length);
+                start = runStart[stackSize];
+            }
+        }
+
+        /**
+         * The power method computes the power of the boundary between two neighbouring runs: 
+         * the depth of the node between their midpoints in a perfectly balanced merge tree over the array.
+         * 
+         * @param start is an integer value which is the first index of the first run.
+         * @param mid is an integer value which is the first index of the second run.
+         * @param end is an integer value which is the index after the second run.
+         * @param length is an integer value which is the length of the array.
+         * @return the power, smaller for boundaries closer to the middle of the array.
+         */
+        private static int power(int start, int mid, int end, int length){
+            long twiceMid1 = (long) start + mid; // twice the midpoints, so they stay integers
+            long twiceMid2 = (long) mid + end;
+            int a = (int) ((twiceMid1 << 30) / length);
+            int b = (int) ((twiceMid2 << 30) / length);
+            return Integer.numberOfLeadingZeros(a ^ b);
+        }
+
+        /**
+         * The nextRun method finds the run that starts at the index, reverses it if it is descending, 
+         * extends it to the minimum run with binary insertion sort, and reports it.
+         * 
+         * @param start is an integer value which is the first index of the run.
+         * @return the index after the run.
+         */
+        private int nextRun(int start){
+            int length = values.length;
+            int end = start + 1;
+            if (end < length){
+                compare(end, end - 1);
+                if (values[end] < values[end - 1]){ // strictly descending, so reversing it keeps equal elements in order
+                    end++;
+                    while (end < length && compareLess(end, end - 1)){
+                        end++;
+                    }
+                    reverse(start, end);
+                } else{
+                    end++;
+                    while (end < length && !compareLess(end, end - 1)){
+                        end++;
+                    }
+                }
+            }
+            int minEnd = Math.min(length, start + MIN_RUN);
+            if (end < minEnd){
+                binaryInsertionSort(start, end, minEnd);
+                end = minEnd;
+            }
+            if (listener != null){
+                listener.onRun(start, end);
+            }
+            return end;
+        }
+
+        /**
+         * The binaryInsertionSort method inserts the elements after a sorted range into it, one at a time.
+         * 
+         * @param start is an integer value which is the first index of the range.
+         * @param sorted is an integer value which is the index after the part of the range already sorted.
+         * @param end is an integer value which is the index after the range.
+         */
+        private void binaryInsertionSort(int start, int sorted, int end){
+            for (int i = sorted; i < end; i++){
+                int pivot = values[i];
+                int low = start;
+                int high = i;
+                while (low < high){ // the first element bigger than the pivot, so equal elements keep their order
+                    int mid = (low + high) >>> 1;
+                    compare(i, mid);
+                    if (pivot < values[mid]){
+                        high = mid;
+                    } else{
+                        low = mid + 1;
+                    }
+                }
+                for (int j = i; j > low; j--){
+                    write(j, values[j - 1]);
+                }
+                write(low, pivot);
+            }
+        }
+
+        private void reverse(int from, int to){
+            for (int i = from, j = to - 1; i < j; i++, j--){
+                int temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+                if (listener != null){
+                    listener.onSwap(i, j);
+                }
+            }
+        }
+
+        /**
+         * The merge method merges two neighbouring sorted runs, skipping the elements already in place 
+         * and copying the shorter of the rest into the buffer.
+         * 
+         * @param from is an integer value which is the first index of the first run.
+         * @param mid is an integer value which is the first index of the second run.
+         * @param to is an integer value which is the index after the second run.
+         */
+        private void merge(int from, int mid, int to){
+            SortPassEvent event = new SortPassEvent(NAME, merges++, to - from);
+            event.begin();
+            from += gallopForward(values[mid], mid, values, from, mid - from, true, 0); // the first run's elements not bigger than the second run are in place
+            if (from < mid){
+                to -= gallopBackward(values[mid - 1], mid - 1, values, to - 1, to - mid, true, 0); // the second run's elements not smaller than the first run are in place
+                if (mid < to){
+                    if (mid - from <= to - mid){
+                        mergeLow(from, mid, to);
+                    } else{
+                        mergeHigh(from, mid, to);
+                    }
+                }
+            }
+            event.commit();
+        }
+
+        /**
+         * The mergeLow method merges from the front, with the first run in the buffer.
+         */
+        private void mergeLow(int from, int mid, int to){
+            int length1 = mid - from;
+            int[] tmp = buffer(length1);
+            System.arraycopy(values, from, tmp, 0, length1);
+            int cursor1 = 0; // in the buffer, which was copied from the index from
+            int cursor2 = mid;
+            int destination = from;
+            while (cursor1 < length1 && cursor2 < to){
+                int count1 = 0; // how many times in a row each run won
+                int count2 = 0;
+                do {
+                    compare(cursor2, from + cursor1);
+                    if (values[cursor2] < tmp[cursor1]){
+                        write(destination++, values[cursor2++]);
+                        count2++;
+                        count1 = 0;
+                    } else{
+                        write(destination++, tmp[cursor1++]);
+                        count1++;
+                        count2 = 0;
+                    }
+                } while (cursor1 < length1 && cursor2 < to && count1 < MIN_GALLOP && count2 < MIN_GALLOP);
+
+                while (cursor1 < length1 && cursor2 < to){ // galloping
+                    count1 = gallopForward(values[cursor2], cursor2, tmp, cursor1, length1 - cursor1, true, from);
+                    for (int k = 0; k < count1; k++){
+                        write(destination++, tmp[cursor1++]);
+                    }
+                    if (cursor1 == length1){
+                        break;
+                    }
+                    write(destination++, values[cursor2++]);
+                    if (cursor2 == to){
+                        break;
+                    }
+                    count2 = gallopForward(tmp[cursor1], from + cursor1, values, cursor2, to - cursor2, false, 0);
+                    for (int k = 0; k < count2; k++){
+                        write(destination++, values[cursor2++]);
+                    }
+                    if (cursor2 == to){
+                        break;
+                    }
+                    write(destination++, tmp[cursor1++]);
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP){
+                        break; // back to one element at a time
+                    }
+                }
+            }
+            while (cursor1 < length1){ // the rest of the second run is already in place
+                write(destination++, tmp[cursor1++]);
+            }
+        }
+
+        /**
+         * The mergeHigh method merges from the back, with the second run in the buffer.
+         */
+        private void mergeHigh(int from, int mid, int to){
+            int length2 = to - mid;
+            int[] tmp = buffer(length2);
+            System.arraycopy(values, mid, tmp, 0, length2);
+            int cursor1 = mid - 1;
+            int cursor2 = length2 - 1; // in the buffer, which was copied from the index mid
+            int destination = to - 1;
+            while (cursor1 >= from && cursor2 >= 0){
+                int count1 = 0;
+                int count2 = 0;
+                do {
+                    compare(cursor1, mid + cursor2);
+                    if (values[cursor1] > tmp[cursor2]){
+                        write(destination--, values[cursor1--]);
+                        count1++;
+                        count2 = 0;
+                    } else{
+                        write(destination--, tmp[cursor2--]);
+                        count2++;
+                        count1 = 0;
+                    }
+                } while (cursor1 >= from && cursor2 >= 0 && count1 < MIN_GALLOP && count2 < MIN_GALLOP);
+
+                while (cursor1 >= from && cursor2 >= 0){ // galloping
+                    count1 = gallopBackward(tmp[cursor2], mid + cursor2, values, cursor1, cursor1 - from + 1, false, 0);
+                    for (int k = 0; k < count1; k++){
+                        write(destination--, values[cursor1--]);
+                    }
+                    if (cursor1 < from){
+                        break;
+                    }
+                    write(destination--, tmp[cursor2--]);
+                    if (cursor2 < 0){
+                        break;
+                    }
+                    count2 = gallopBackward(values[cursor1], cursor1, tmp, cursor2, cursor2 + 1, true, mid);
+                    for (int k = 0; k < count2; k++){
+                        write(destination--, tmp[cursor2--]);
+                    }
+                    if (cursor2 < 0){
+                        break;
+                    }
+                    write(destination--, values[cursor1--]);
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP){
+                        break;
+                    }
+                }
+            }
+            while (cursor2 >= 0){ // the rest of the first run is already in place
+                write(destination--, tmp[cursor2--]);
+            }
+        }
+
+        /**
+         * The gallopForward method counts the elements at the start of a sorted range that are smaller than the key 
+         * (or not bigger, if inclusive), with an exponential search followed by a binary search.
+         * 
+         * @param key is an integer value which is the key.
+         * @param keyIndex is an integer value which is the index of the key, for the listener.
+         * @param array is the int array of the range.
+         * @param start is an integer value which is the first index of the range.
+         * @param length is an integer value which is the length of the range.
+         * @param inclusive is true if elements equal to the key are counted.
+         * @param offset is an integer value added to the indices of the array for the listener, when it is the buffer.
+         * @return the number of elements.
+         */
+        private int gallopForward(int key, int keyIndex, int[] array, int start, int length, boolean inclusive, int offset){
+            if (length == 0 || !before(array, start, key, keyIndex, inclusive, offset)){
+                return 0;
+            }
+            int last = 0; // array[start + last] comes before the key
+            int ofs = 1;
+            while (ofs < length && before(array, start + ofs, key, keyIndex, inclusive, offset)){
+                last = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0){ // overflow
+                    ofs = length;
+                }
+            }
+            ofs = Math.min(ofs, length);
+            int low = last + 1;
+            int high = ofs; // array[start + high] does not come before the key, or high is the length
+            while (low < high){
+                int mid = (low + high) >>> 1;
+                if (before(array, start + mid, key, keyIndex, inclusive, offset)){
+                    low = mid + 1;
+                } else{
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * The gallopBackward method counts the elements at the end of a sorted range that are bigger than the key 
+         * (or not smaller, if inclusive), with an exponential search followed by a binary search.
+         * 
+         * @param key is an integer value which is the key.
+         * @param keyIndex is an integer value which is the index of the key, for the listener.
+         * @param array is the int array of the range.
+         * @param last is an integer value which is the last index of the range.
+         * @param length is an integer value which is the length of the range.
+         * @param inclusive is true if elements equal to the key are counted.
+         * @param offset is an integer value added to the indices of the array for the listener, when it is the buffer.
+         * @return the number of elements.
+         */
+        private int gallopBackward(int key, int keyIndex, int[] array, int last, int length, boolean inclusive, int offset){
+            if (length == 0 || !after(array, last, key, keyIndex, inclusive, offset)){
+                return 0;
+            }
+            int previous = 0; // array[last - previous] comes after the key
+            int ofs = 1;
+            while (ofs < length && after(array, last - ofs, key, keyIndex, inclusive, offset)){
+                previous = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0){ // overflow
+                    ofs = length;
+                }
+            }
+            ofs = Math.min(ofs, length);
+            int low = previous + 1;
+            int high = ofs;
+            while (low < high){
+                int mid = (low + high) >>> 1;
+                if (after(array, last - mid, key, keyIndex, inclusive, offset)){
+                    low = mid + 1;
+                } else{
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private boolean before(int[] array, int index, int key, int keyIndex, boolean inclusive, int offset){
+            compare(index + offset, keyIndex);
+            return inclusive ? array[index] <= key : array[index] < key;
+        }
+
+        private boolean after(int[] array, int index, int key, int keyIndex, boolean inclusive, int offset){
+            compare(index + offset, keyIndex);
+            return inclusive ? array[index] >= key : array[index] > key;
+        }
+
+        private boolean compareLess(int index1, int index2){
+            compare(index1, index2);
+            return values[index1] < values[index2];
+        }
+
+        private void compare(int index1, int index2){
+            if (listener != null){
+                listener.onCompare(index1, index2);
+            }
+        }
+
+        private void write(int index, int value){
+            values[index] = value;
+            if (listener != null){
+                listener.onWrite(index, value);
+            }
+        }
+
+        /**
+         * The buffer method returns a merge buffer of at least the length, allocating a bigger one if needed.
+         * The buffer never needs more than half of the array.
+         */
+        private int[] buffer(int length){
+            if (buffer.length < length){
+                int size = Math.min(values.length / 2 + 1, Math.max(length, buffer.length * 2));
+                buffer = new int[Math.max(size, length)];
+                if (listener != null){
+                    listener.onAllocate((long) buffer.length * Integer.BYTES);
+                }
+            }
+            return buffer;
+        }
+    }
+}
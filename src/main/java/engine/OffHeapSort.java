@@ -0,0 +1,280 @@
+package engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This is the OffHeapSort class that sorts ints stored outside of the Java heap, in direct or memory-mapped IntBuffers.
+ * Radix sort and merge sort run on the buffers themselves, with a scratch buffer that is also off the heap,
+ * so sorting hundreds of millions of ints neither allocates a huge int array nor copies the data into the heap,
+ * and the garbage collector has nothing to do.
+ * A buffer holds at most 2 GB, so files that are bigger than that are sorted with ExternalSort instead.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public final class OffHeapSort {
+
+    public static final int MAX_LENGTH = Integer.MAX_VALUE / Integer.BYTES; // the most ints that one buffer can hold
+
+    private static final int RADIX = 256;
+    private static final int SIGN = 0x80000000;
+    private static final int BLOCK_LENGTH = 32; // the runs sorted with insertion sort before merge sort starts merging
+
+    private OffHeapSort(){
+    }
+
+    /**
+     * The allocate method allocates a direct IntBuffer in the byte order of the machine, for example for a scratch buffer.
+     * Direct buffers count against -XX:MaxDirectMemorySize, which is the maximum heap size by default.
+     * 
+     * @param length is an integer value which is the number of ints of the buffer.
+     * @return the direct IntBuffer.
+     */
+    public static IntBuffer allocate(int length){
+        if (length < 0 || length > MAX_LENGTH){
+            throw new IllegalArgumentException("length must be between 0 and " + MAX_LENGTH + ": " + length);
+        }
+        return ByteBuffer.allocateDirect(length * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    /**
+     * The radixSort method sorts the remaining ints of the buffer, from its position to its limit, with LSD radix sort.
+     * Every pass distributes the ints by one byte between the buffer and the scratch buffer,
+     * and passes where every int has the same byte are skipped.
+     * Copies between the two buffers are fastest when they have the same byte order.
+     * 
+     * @param values is the IntBuffer that needs to be sorted.
+     * @param scratch is the IntBuffer with at least as many remaining ints as the values, used to distribute the ints.
+     */
+    public static void radixSort(IntBuffer values, IntBuffer scratch){
+        IntBuffer target = values.slice();
+        int length = checkScratch(target, scratch);
+        if (length < 2){
+            return;
+        }
+        int[] counts = new int[4 * RADIX]; // the histograms of the four bytes, one after another
+        for (int i = 0; i < length; i++){
+            int key = target.get(i) ^ SIGN;
+            counts[key & 0xff]++;
+            counts[RADIX + ((key >>> 8) & 0xff)]++;
+            counts[2 * RADIX + ((key >>> 16) & 0xff)]++;
+            counts[3 * RADIX + (key >>> 24)]++;
+        }
+
+        IntBuffer source = target;
+        IntBuffer destination = scratch.slice();
+        for (int pass = 0; pass < 4; pass++){
+            int shift = 8 * pass;
+            int offset = pass * RADIX;
+            if (counts[offset + (((source.get(0) ^ SIGN) >>> shift) & 0xff)] == length){ // every int has the same byte
+                continue;
+            }
+            int position = 0;
+            for (int digit = 0; digit < RADIX; digit++){ // turn the histogram into the first position of every digit
+                int count = counts[offset + digit];
+                counts[offset + digit] = position;
+                position += count;
+            }
+            for (int i = 0; i < length; i++){
+                int value = source.get(i);
+                destination.put(counts[offset + (((value ^ SIGN) >>> shift) & 0xff)]++, value);
+            }
+            IntBuffer temp = source;
+            source = destination;
+            destination = temp;
+        }
+        if (source != target){ // an odd number of passes left the result in the scratch buffer
+            copy(source, 0, length, target, 0);
+        }
+    }
+
+    /**
+     * The mergeSort method sorts the remaining ints of the buffer, from its position to its limit, with bottom-up merge sort.
+     * Blocks of 32 ints are sorted with insertion sort, and every pass merges the runs from one buffer into the other,
+     * so no pass copies the runs back. Runs that are already in order are copied instead of merged.
+     * 
+     * @param values is the IntBuffer that needs to be sorted.
+     * @param scratch is the IntBuffer with at least as many remaining ints as the values, used for every other pass.
+     */
+    public static void mergeSort(IntBuffer values, IntBuffer scratch){
+        IntBuffer target = values.slice();
+        int length = checkScratch(target, scratch);
+        for (int from = 0; from < length; from += BLOCK_LENGTH){
+            insertionSort(target, from, Math.min(from + BLOCK_LENGTH, length));
+        }
+
+        IntBuffer source = target;
+        IntBuffer destination = scratch.slice();
+        for (int width = BLOCK_LENGTH; width < length; width *= 2){
+            for (int left = 0; left < length; left += 2 * width){
+                int mid = Math.min(left + width, length);
+                int right = Math.min(left + 2 * width, length);
+                if (mid == right || source.get(mid-1) <= source.get(mid)){ // a single run, or runs that are already in order
+                    copy(source, left, right, destination, left);
+                } else{
+                    merge(source, left, mid, right, destination);
+                }
+            }
+            IntBuffer temp = source;
+            source = destination;
+            destination = temp;
+        }
+        if (source != target){ // an odd number of passes left the result in the scratch buffer
+            copy(source, 0, length, target, 0);
+        }
+    }
+
+    /**
+     * The sortFile method sorts a binary file of big-endian ints, the format of ExternalSort, into the output file.
+     * The input is copied by the file system, the output is memory-mapped and sorted in place,
+     * and the scratch buffer is a temporary file mapped next to the output, so no int passes through the heap.
+     * The sorted output is forced to the disk before the method returns.
+     * The scratch file is deleted while it is still mapped, because Java only unmaps a buffer when it is garbage collected.
+     * Linux and macOS allow that, but Windows does not, so there the file is deleted when the program exits instead.
+     * 
+     * @param input is the path of the binary file that is sorted.
+     * @param output is the path of the binary file that is written, replaced if it exists, or the input to sort it in place.
+     * @param radix is true to sort with radix sort, and false to sort with merge sort.
+     * @exception IOException if a file can not be read or written, if the input is not a whole number of ints,
+     *            or if it is bigger than one buffer.
+     */
+    public static void sortFile(Path input, Path output, boolean radix) throws IOException {
+        long bytes = Files.size(input);
+        if (bytes % Integer.BYTES != 0){
+            throw new IOException(input + " has " + bytes + " bytes, which is not a whole number of ints");
+        }
+        if (bytes / Integer.BYTES > MAX_LENGTH){
+            throw new IOException(input + " has more than " + MAX_LENGTH + " ints, so it has to be sorted with --external");
+        }
+        if (!Files.exists(output) || !Files.isSameFile(input, output)){
+            Files.copy(input, output, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Path directory = output.toAbsolutePath().getParent();
+        Path scratchFile = Files.createTempFile(directory, "scratch", ".bin"); // on the disk of the output, not in a memory file system
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel scratchChannel = FileChannel.open(scratchFile, StandardOpenOption.READ, StandardOpenOption.WRITE)){
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            IntBuffer values = mapped.asIntBuffer();
+            IntBuffer scratch = scratchChannel.map(FileChannel.MapMode.READ_WRITE, 0, bytes).asIntBuffer(); // big-endian too, so copies are bulk copies
+            if (radix){
+                radixSort(values, scratch);
+            } else{
+                mergeSort(values, scratch);
+            }
+            mapped.force(); // the sorted ints are on the disk, not only in the page cache
+        }
+        finally {
+            deleteScratch(scratchFile);
+        }
+    }
+
+    /**
+     * The deleteScratch method deletes the scratch file, or asks for it to be deleted when the program exits 
+     * if the file system does not delete files that are still mapped.
+     * 
+     * @param scratchFile is the path of the scratch file.
+     */
+    private static void deleteScratch(Path scratchFile){
+        try {
+            Files.deleteIfExists(scratchFile);
+        }
+        catch (IOException e){ // Windows keeps mapped files until they are unmapped
+            scratchFile.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * The checkScratch method checks that the scratch buffer is long enough for the values.
+     * 
+     * @param values is the IntBuffer that is sorted.
+     * @param scratch is the IntBuffer used as temporary storage.
+     * @return the number of ints that are sorted.
+     */
+    private static int checkScratch(IntBuffer values, IntBuffer scratch){
+        int length = values.remaining();
+        if (scratch.remaining() < length){
+            throw new IllegalArgumentException("scratch has " + scratch.remaining() + " ints, but " + length + " are sorted");
+        }
+        return length;
+    }
+
+    /**
+     * The insertionSort method sorts the range [from, to) of the buffer with insertion sort.
+     * 
+     * @param values is the IntBuffer that is being sorted.
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive).
+     */
+    private static void insertionSort(IntBuffer values, int from, int to){
+        for (int i = from + 1; i < to; i++){
+            int value = values.get(i);
+            int j = i - 1;
+            while (j >= from && values.get(j) > value){
+                values.put(j+1, values.get(j));
+                j--;
+            }
+            values.put(j+1, value);
+        }
+    }
+
+    /**
+     * The merge method merges the sorted ranges [from, mid) and [mid, to) of the source into the same range of the destination.
+     * 
+     * @param source is the IntBuffer that holds the two sorted ranges.
+     * @param from is an integer value which is the first index of the left range.
+     * @param mid is an integer value which is the first index of the right range.
+     * @param to is an integer value which is the end of the right range (exclusive).
+     * @param destination is the IntBuffer that receives the merged ints.
+     */
+    private static void merge(IntBuffer source, int from, int mid, int to, IntBuffer destination){
+        int i = from, j = mid, k = from;
+        int left = source.get(i);
+        int right = source.get(j);
+        while (true){ // the heads of both ranges are kept in locals, so every int is read once
+            if (left <= right){
+                destination.put(k++, left);
+                if (++i == mid){
+                    break;
+                }
+                left = source.get(i);
+            } else{
+                destination.put(k++, right);
+                if (++j == to){
+                    break;
+                }
+                right = source.get(j);
+            }
+        }
+        if (i < mid){
+            copy(source, i, mid, destination, k);
+        } else{
+            copy(source, j, to, destination, k);
+        }
+    }
+
+    /**
+     * The copy method copies the range [from, to) of one buffer into another buffer with one bulk put.
+     * 
+     * @param source is the IntBuffer that is read.
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive).
+     * @param destination is the IntBuffer that is written.
+     * @param at is an integer value which is the index of the destination where the first int is written.
+     */
+    private static void copy(IntBuffer source, int from, int to, IntBuffer destination, int at){
+        IntBuffer range = source.duplicate();
+        range.limit(to).position(from);
+        IntBuffer into = destination.duplicate();
+        into.position(at);
+        into.put(range);
+    }
+}
@@ -0,0 +1,167 @@
+package engine;
+
+/**
+ * This is the OperationCounter class that measures a sort run: the operations reported by a sorting algorithm, 
+ * the auxiliary memory it allocated, and the time it took.
+ * The counters are plain fields, so a counter must only listen to one thread at a time. 
+ * Use concurrent to count the operations of a parallel algorithm.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class OperationCounter implements SortListener {
+
+    private long comparisons;
+    private long swaps;
+    private long writes;
+    private long auxiliaryBytes;
+    private long nanos;
+
+    @Override
+    public void onCompare(int index1, int index2){
+        comparisons++;
+    }
+
+    @Override
+    public void onSwap(int index1, int index2){
+        swaps++;
+    }
+
+    @Override
+    public void onWrite(int index, int value){
+        writes++;
+    }
+
+    @Override
+    public void onAllocate(long bytes){
+        auxiliaryBytes += bytes;
+    }
+
+    /**
+     * The addNanos method adds time to the time of the run.
+     * 
+     * @param nanosIn is a long value which is the time in nanoseconds.
+     */
+    public void addNanos(long nanosIn){
+        nanos += nanosIn;
+    }
+
+    /**
+     * The add method adds every counter and the time of another counter to this counter.
+     * 
+     * @param other is the OperationCounter that is added.
+     */
+    public void add(OperationCounter other){
+        comparisons += other.comparisons;
+        swaps += other.swaps;
+        writes += other.writes;
+        auxiliaryBytes += other.auxiliaryBytes;
+        nanos += other.nanos;
+    }
+
+    /**
+     * The concurrent method creates a listener that counts into this counter from several threads at once.
+     * Every operation takes a lock, so it is only meant for measuring, not for timing.
+     * 
+     * @return the thread-safe SortListener.
+     */
+    public SortListener concurrent(){
+        OperationCounter counter = this;
+        return new SortListener() {
+            @Override
+            public void onCompare(int index1, int index2){
+                synchronized (counter){
+                    counter.comparisons++;
+                }
+            }
+
+            @Override
+            public void onSwap(int index1, int index2){
+                synchronized (counter){
+                    counter.swaps++;
+                }
+            }
+
+            @Override
+            public void onWrite(int index, int value){
+                synchronized (counter){
+                    counter.writes++;
+                }
+            }
+
+            @Override
+            public void onAllocate(long bytes){
+                synchronized (counter){
+                    counter.auxiliaryBytes += bytes;
+                }
+            }
+        };
+    }
+
+    /**
+     * The getComparisons method is the getter method for the number of comparisons.
+     * 
+     * @return comparisons is the number of comparisons counted.
+     */
+    public long getComparisons(){
+        return comparisons;
+    }
+
+    /**
+     * The getSwaps method is the getter method for the number of swaps.
+     * 
+     * @return swaps is the number of swaps counted.
+     */
+    public long getSwaps(){
+        return swaps;
+    }
+
+    /**
+     * The getWrites method is the getter method for the number of writes.
+     * 
+     * @return writes is the number of writes counted.
+     */
+    public long getWrites(){
+        return writes;
+    }
+
+    /**
+     * The getAuxiliaryBytes method is the getter method for the auxiliary memory allocated.
+     * 
+     * @return auxiliaryBytes is the number of bytes allocated.
+     */
+    public long getAuxiliaryBytes(){
+        return auxiliaryBytes;
+    }
+
+    /**
+     * The getNanos method is the getter method for the time of the run.
+     * 
+     * @return nanos is the time in nanoseconds.
+     */
+    public long getNanos(){
+        return nanos;
+    }
+
+    /**
+     * The reset method sets every counter and the time back to zero.
+     */
+    public void reset(){
+        comparisons = 0;
+        swaps = 0;
+        writes = 0;
+        auxiliaryBytes = 0;
+        nanos = 0;
+    }
+
+    /**
+     * The toString method describes the counters and the time.
+     * 
+     * @return the String of the counters and the time.
+     */
+    @Override
+    public String toString(){
+        return String.format("comparisons %,d, swaps %,d, writes %,d, auxiliary %,d bytes, %.3f ms",
+                comparisons, swaps, writes, auxiliaryBytes, nanos / 1e6);
+    }
+}
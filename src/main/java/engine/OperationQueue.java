@@ -0,0 +1,315 @@
+package engine;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This is the OperationQueue class that hands the operations of a sort running on a worker thread over to another thread, 
+ * for example the JavaFX application thread, which replays them at its own pace.
+ * It is a bounded ring buffer with a single producer and a single consumer, and no locks: 
+ * each side only writes its own counter. When the buffer is full the sorting thread waits, 
+ * so a fast algorithm can not run ahead of the display and fill the memory.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class OperationQueue implements SortListener {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final int COMPARE = 0;
+    private static final int SWAP = 1;
+    private static final int WRITE = 2;
+    private static final int ALLOCATE = 3; // the bytes are split into their high and low ints
+    private static final int RUN = 4;
+    private static final int SORTED_PREFIX = 5;
+    private static final long PARK_NANOS = 100_000; // how long the producer waits before looking for space again
+
+    private final int[] slots; // three ints per operation: the operation and its two ints
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // the next operation to read, only written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // the next operation to write, only written by the producer
+    private long cachedHead; // the last head seen by the producer
+    private long cachedTail; // the last tail seen by the consumer
+    private volatile boolean finished;
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+
+    /**
+     * The OperationQueue method is the default constructer of OperationQueue class with the default capacity.
+     */
+    public OperationQueue(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * The OperationQueue method is the constructer of OperationQueue class with a chosen capacity.
+     * 
+     * @param capacity is a positive integer value which is rounded up to a power of two, the most operations waiting in the queue.
+     */
+    public OperationQueue(int capacity){
+        if (capacity <= 0 || capacity > 1 << 28){
+            throw new IllegalArgumentException("capacity must be between 1 and 2^28: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity){
+            size <<= 1;
+        }
+        this.slots = new int[size * 3];
+        this.mask = size - 1;
+    }
+
+    /**
+     * The start method sorts the values with an algorithm on a new daemon thread that publishes the operations into a new queue.
+     * The algorithm reports its operations from one thread, so parallel algorithms are replaced by their sequential counterpart.
+     * 
+     * @param algorithm is the SortAlgorithm that sorts.
+     * @param values is the int array that is sorted, which the caller should not use until the queue is finished.
+     * @param capacity is a positive integer value which is the most operations waiting in the queue.
+     * @return the queue that receives the operations.
+     */
+    public static OperationQueue start(SortAlgorithm algorithm, int[] values, int capacity){
+        OperationQueue queue = new OperationQueue(capacity);
+        SortAlgorithm producer = algorithm.hasCapability(SortCapability.PARALLEL) ? algorithm.sequential() : algorithm;
+        Thread thread = new Thread(() -> {
+            try {
+                producer.sort(values, queue);
+            }
+            catch (CancellationException e){
+                // the consumer is gone, nothing is waiting for the rest
+            }
+            catch (RuntimeException | Error e){
+                queue.failure = e;
+            }
+            finally {
+                queue.finish();
+            }
+        }, "sort-producer");
+        thread.setDaemon(true);
+        thread.start();
+        return queue;
+    }
+
+    @Override
+    public void onCompare(int index1, int index2){
+        offer(COMPARE, index1, index2);
+    }
+
+    @Override
+    public void onSwap(int index1, int index2){
+        offer(SWAP, index1, index2);
+    }
+
+    @Override
+    public void onWrite(int index, int value){
+        offer(WRITE, index, value);
+    }
+
+    @Override
+    public void onAllocate(long bytes){
+        offer(ALLOCATE, (int) (bytes >>> 32), (int) bytes);
+    }
+
+    @Override
+    public void onRun(int from, int to){
+        offer(RUN, from, to);
+    }
+
+    @Override
+    public void onSortedPrefix(int length){
+        offer(SORTED_PREFIX, length, 0);
+    }
+
+    /**
+     * The finish method tells the consumer that no more operations will be published.
+     */
+    public void finish(){
+        finished = true;
+    }
+
+    /**
+     * The cancel method stops the producer: the next operation it publishes throws a CancellationException, 
+     * which ends the sort on the worker thread.
+     */
+    public void cancel(){
+        cancelled = true;
+    }
+
+    /**
+     * The getFailure method is the getter method for the exception that stopped the sort on the worker thread.
+     * 
+     * @return failure is the exception, or null if the sort did not fail.
+     */
+    public Throwable getFailure(){
+        return failure;
+    }
+
+    /**
+     * The drain method reports the operations waiting in the queue to the listener, without waiting for more.
+     * 
+     * @param listener is the SortListener that receives the operations.
+     * @param max is an integer value which is the most operations to report.
+     * @return the number of operations reported.
+     */
+    public int drain(SortListener listener, int max){
+        int count = 0;
+        while (count < max && poll(listener)){
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * The replay method makes a SortStepper that applies the queued operations one by one to an array, 
+     * and reports them to the listener of every step. 
+     * The stepper is not ready while the queue is empty and the sort is still running.
+     * 
+     * @param target is the int array that the operations are applied to, holding the same values the sort started with.
+     * @return the SortStepper that consumes the queue.
+     */
+    public SortStepper replay(int[] target){
+        return new Replay(target);
+    }
+
+    /**
+     * The offer method publishes one operation, waiting while the queue is full.
+     * 
+     * @param operation is an integer value which is the operation.
+     * @param a is an integer value which is the first int of the operation.
+     * @param b is an integer value which is the second int of the operation.
+     */
+    private void offer(int operation, int a, int b){
+        long t = tail.get();
+        if (t - cachedHead > mask){
+            cachedHead = head.get();
+            while (t - cachedHead > mask){ // full, wait for the consumer
+                if (cancelled){
+                    throw new CancellationException("the operation queue was cancelled");
+                }
+                LockSupport.parkNanos(PARK_NANOS);
+                cachedHead = head.get();
+            }
+        }
+        if (cancelled){
+            throw new CancellationException("the operation queue was cancelled");
+        }
+        int slot = (int) (t & mask) * 3;
+        slots[slot] = operation;
+        slots[slot + 1] = a;
+        slots[slot + 2] = b;
+        tail.lazySet(t + 1); // publishes the slot to the consumer
+    }
+
+    /**
+     * The poll method reports the oldest operation in the queue to the listener and removes it.
+     * 
+     * @param listener is the SortListener that receives the operation.
+     * @return true if there was an operation in the queue.
+     */
+    private boolean poll(SortListener listener){
+        long h = head.get();
+        if (h == cachedTail){
+            cachedTail = tail.get();
+            if (h == cachedTail){
+                return false;
+            }
+        }
+        int slot = (int) (h & mask) * 3;
+        int operation = slots[slot];
+        int a = slots[slot + 1];
+        int b = slots[slot + 2];
+        head.lazySet(h + 1); // gives the slot back to the producer
+        if (operation == SWAP){
+            listener.onSwap(a, b);
+        } else if (operation == WRITE){
+            listener.onWrite(a, b);
+        } else if (operation == ALLOCATE){
+            listener.onAllocate(((long) a << 32) | (b & 0xFFFFFFFFL));
+        } else if (operation == RUN){
+            listener.onRun(a, b);
+        } else if (operation == SORTED_PREFIX){
+            listener.onSortedPrefix(a);
+        } else{
+            listener.onCompare(a, b);
+        }
+        return true;
+    }
+
+    /**
+     * This is the Replay class that consumes the queue one operation per step and applies it to the target array.
+     */
+    private class Replay implements SortStepper, SortListener {
+
+        private final int[] target;
+        private SortListener listener; // the listener of the current step
+
+        Replay(int[] targetIn){
+            this.target = targetIn;
+        }
+
+        @Override
+        public boolean isDone(){
+            return finished && head.get() == tail.get();
+        }
+
+        @Override
+        public boolean isReady(){
+            return finished || head.get() != tail.get();
+        }
+
+        @Override
+        public boolean step(SortListener listenerIn){
+            listener = listenerIn;
+            poll(this);
+            listener = null;
+            return false; // the queue does not know where the passes of the algorithm end
+        }
+
+        @Override
+        public void onCompare(int index1, int index2){
+            if (listener != null){
+                listener.onCompare(index1, index2);
+            }
+        }
+
+        @Override
+        public void onSwap(int index1, int index2){
+            int temp = target[index1];
+            target[index1] = target[index2];
+            target[index2] = temp;
+            if (listener != null){
+                listener.onSwap(index1, index2);
+            }
+        }
+
+        @Override
+        public void onWrite(int index, int value){
+            target[index] = value;
+            if (listener != null){
+                listener.onWrite(index, value);
+            }
+        }
+
+        @Override
+        public void onAllocate(long bytes){
+            if (listener != null){
+                listener.onAllocate(bytes);
+            }
+        }
+
+        @Override
+        public void onRun(int from, int to){
+            if (listener != null){
+                listener.onRun(from, to);
+            }
+        }
+
+        @Override
+        public void onSortedPrefix(int length){
+            if (listener != null){
+                listener.onSortedPrefix(length);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This is the ParallelMergeSort class that contains a merge sort running on a ForkJoinPool.
+ * Both halves of a range are sorted in parallel, and big merges are split again by a binary search 
+ * so the merge step also runs in parallel. Ranges shorter than the sequential cutoff are sorted with MergeSort.
+ * Operations are reported from the worker threads, so the listener has to be thread-safe.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class ParallelMergeSort implements SortAlgorithm {
+
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 8192;
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+
+    /**
+     * The ParallelMergeSort method is the default constructer of ParallelMergeSort class.
+     * It uses the common ForkJoinPool and the default sequential cutoff.
+     */
+    public ParallelMergeSort(){
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * The ParallelMergeSort method is the constructer of ParallelMergeSort class with a chosen pool and cutoff.
+     * 
+     * @param poolIn is the ForkJoinPool that runs the tasks.
+     * @param sequentialCutoffIn is a positive integer value which is the length under which a range is sorted or merged sequentially.
+     */
+    public ParallelMergeSort(ForkJoinPool poolIn, int sequentialCutoffIn){
+        if (sequentialCutoffIn <= 0){
+            throw new IllegalArgumentException("sequentialCutoff must be positive: " + sequentialCutoffIn);
+        }
+        this.pool = poolIn;
+        this.sequentialCutoff = sequentialCutoffIn;
+    }
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return "Parallel Merge Sort".
+     */
+    @Override
+    public String getName(){
+        return "Parallel Merge Sort";
+    }
+
+    /**
+     * The getCapabilities method is the getter method for the capabilities of parallel merge sort.
+     * 
+     * @return the set of SortCapability of the algorithm.
+     */
+    @Override
+    public Set<SortCapability> getCapabilities(){
+        return EnumSet.of(SortCapability.PARALLEL);
+    }
+
+    /**
+     * The sequential method is the getter method for the merge sort that parallel merge sort is compared with.
+     * 
+     * @return a MergeSort.
+     */
+    @Override
+    public SortAlgorithm sequential(){
+        return new MergeSort();
+    }
+
+    /**
+     * The getSequentialCutoff method is the getter method for the length under which ranges are handled sequentially.
+     * 
+     * @return sequentialCutoff is the cutoff length.
+     */
+    public int getSequentialCutoff(){
+        return sequentialCutoff;
+    }
+
+    /**
+     * The sort method sorts the array with the parallel merge sort and waits until it is finished.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param listener is the thread-safe SortListener that receives the operations, or null if nobody is listening.
+     */
+    @Override
+    public void sort(int[] values, SortListener listener){
+        int length = values.length;
+        if (length < 2){
+            return;
+        }
+        int[] aux = new int[length];
+        if (listener != null){
+            listener.onAllocate((long) length * Integer.BYTES);
+        }
+        if (length <= sequentialCutoff){
+            MergeSort.sortRange(values, aux, 0, length, listener);
+        } else{
+            pool.invoke(new SortTask(values, aux, 0, length, listener));
+        }
+    }
+
+    /**
+     * This is the SortTask class that sorts the range [from, to) of the array.
+     */
+    private class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] values;
+        private final int[] aux;
+        private final int from;
+        private final int to;
+        private final SortListener listener;
+
+        SortTask(int[] valuesIn, int[] auxIn, int fromIn, int toIn, SortListener listenerIn){
+            this.values = valuesIn;
+            this.aux = auxIn;
+            this.from = fromIn;
+            this.to = toIn;
+            this.listener = listenerIn;
+        }
+
+        @Override
+        protected void compute(){
+            if (to - from <= sequentialCutoff){
+                MergeSort.sortRange(values, aux, from, to, listener);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(values, aux, from, mid, listener), new SortTask(values, aux, mid, to, listener));
+            if (values[mid-1] <= values[mid]){ // the halves are already in order
+                return;
+            }
+            System.arraycopy(values, from, aux, from, to - from);
+            new MergeTask(aux, from, mid, mid, to, values, from, listener).compute();
+        }
+    }
+
+    /**
+     * This is the MergeTask class that merges the sorted ranges [from1, to1) and [from2, to2) of the source 
+     * into the destination, starting at the index at.
+     */
+    private class MergeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] source;
+        private final int from1;
+        private final int to1;
+        private final int from2;
+        private final int to2;
+        private final int[] destination;
+        private final int at;
+        private final SortListener listener;
+
+        MergeTask(int[] sourceIn, int from1In, int to1In, int from2In, int to2In, int[] destinationIn, int atIn, SortListener listenerIn){
+            this.source = sourceIn;
+            this.from1 = from1In;
+            this.to1 = to1In;
+            this.from2 = from2In;
+            this.to2 = to2In;
+            this.destination = destinationIn;
+            this.at = atIn;
+            this.listener = listenerIn;
+        }
+
+        @Override
+        protected void compute(){
+            int length1 = to1 - from1;
+            int length2 = to2 - from2;
+            if (length1 + length2 <= sequentialCutoff){
+                mergeSequentially();
+                return;
+            }
+            if (length1 < length2){ // split the longer range, so both halves of the merge get a fair share
+                new MergeTask(source, from2, to2, from1, to1, destination, at, listener).compute();
+                return;
+            }
+            int mid1 = (from1 + to1) >>> 1;
+            int mid2 = lowerBound(source, from2, to2, source[mid1]);
+            int mid = at + (mid1 - from1) + (mid2 - from2);
+            invokeAll(new MergeTask(source, from1, mid1, from2, mid2, destination, at, listener),
+                      new MergeTask(source, mid1, to1, mid2, to2, destination, mid, listener));
+        }
+
+        /**
+         * The mergeSequentially method merges the two ranges with one loop.
+         * Elements of the first range go first when they are equal to elements of the second range.
+         * Without a listener, the merge kernel of the preferred BlockSorter is used.
+         */
+        private void mergeSequentially(){
+            if (listener == null){
+                BlockSorters.preferred().merge(source, from1, to1, from2, to2, destination, at);
+                return;
+            }
+            int i = from1, j = from2, k = at;
+            while (i<to1 && j<to2){
+                if (listener != null){
+                    listener.onCompare(i, j);
+                }
+                destination[k] = (source[i] <= source[j]) ? source[i++] : source[j++];
+                if (listener != null){
+                    listener.onWrite(k, destination[k]);
+                }
+                k++;
+            }
+            while (i<to1){
+                destination[k] = source[i++];
+                if (listener != null){
+                    listener.onWrite(k, destination[k]);
+                }
+                k++;
+            }
+            while (j<to2){
+                destination[k] = source[j++];
+                if (listener != null){
+                    listener.onWrite(k, destination[k]);
+                }
+                k++;
+            }
+        }
+    }
+
+    /**
+     * The lowerBound method finds the first index of the sorted range whose element is not smaller than the key.
+     * 
+     * @param values is the int array that is searched.
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive).
+     * @param key is an integer value which is searched for.
+     * @return the index found, or to if every element is smaller than the key.
+     */
+    static int lowerBound(int[] values, int from, int to, int key){
+        while (from < to){
+            int mid = (from + to) >>> 1;
+            if (values[mid] < key){
+                from = mid + 1;
+            } else{
+                to = mid;
+            }
+        }
+        return from;
+    }
+}
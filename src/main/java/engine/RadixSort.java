@@ -0,0 +1,131 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This is the RadixSort class that contains the least-significant-digit radix sort algorithm over an int array.
+ * Every pass distributes the elements by one byte, from the lowest byte to the highest, 
+ * and the sign bit is flipped so negative numbers come before positive numbers.
+ * The histograms of all four bytes are counted in one scan, and passes where every element has the same byte are skipped.
+ * When the range of the keys is not bigger than the length of the array, CountingSort is used instead, because it is faster.
+ * The histograms and the scratch array are allocated once for every call, and reused by all four passes.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class RadixSort implements SortAlgorithm {
+
+    private static final String NAME = "Radix Sort";
+
+    private static final int RADIX = 256;
+    private static final int SIGN = 0x80000000;
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return "Radix Sort".
+     */
+    @Override
+    public String getName(){
+        return NAME;
+    }
+
+    /**
+     * The getCapabilities method is the getter method for the capabilities of radix sort.
+     * 
+     * @return the set of SortCapability of the algorithm.
+     */
+    @Override
+    public Set<SortCapability> getCapabilities(){
+        return EnumSet.of(SortCapability.STABLE);
+    }
+
+    /**
+     * The sort method sorts the array with counting sort if the range of the keys is small compared with its length, 
+     * and with radix sort otherwise.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    @Override
+    public void sort(int[] values, SortListener listener){
+        if (values.length < 2){
+            return;
+        }
+        int min = values[0];
+        int max = values[0];
+        for (int value : values){
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        long range = (long) max - min + 1;
+        if (CountingSort.fits(range, values.length)){
+            CountingSort.sort(values, min, (int) range, listener);
+        } else{
+            sort(values, new int[values.length], listener);
+        }
+    }
+
+    /**
+     * The sort method sorts the array with radix sort.
+     * Writes into the scratch array are not reported to the listener, only writes into the values.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param scratch is an int array at least as long as the values, used to distribute the elements.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    static void sort(int[] values, int[] scratch, SortListener listener){
+        int length = values.length;
+        int[] counts = new int[4 * RADIX]; // the histograms of the four bytes, one after another
+        if (listener != null){
+            listener.onAllocate((long) (scratch.length + counts.length) * Integer.BYTES);
+        }
+        for (int value : values){
+            int key = value ^ SIGN;
+            counts[key & 0xff]++;
+            counts[RADIX + ((key >>> 8) & 0xff)]++;
+            counts[2 * RADIX + ((key >>> 16) & 0xff)]++;
+            counts[3 * RADIX + (key >>> 24)]++;
+        }
+
+        int[] source = values;
+        int[] destination = scratch;
+        for (int pass = 0; pass < 4; pass++){
+            int shift = 8 * pass;
+            int offset = pass * RADIX;
+            if (counts[offset + (((source[0] ^ SIGN) >>> shift) & 0xff)] == length){ // every element has the same byte
+                continue;
+            }
+            SortPassEvent event = new SortPassEvent(NAME, pass, length);
+            event.begin();
+            int position = 0;
+            for (int digit = 0; digit < RADIX; digit++){ // turn the histogram into the first position of every digit
+                int count = counts[offset + digit];
+                counts[offset + digit] = position;
+                position += count;
+            }
+            for (int i = 0; i < length; i++){
+                int value = source[i];
+                int k = counts[offset + (((value ^ SIGN) >>> shift) & 0xff)]++;
+                destination[k] = value;
+                if (listener != null && destination == values){
+                    listener.onWrite(k, value);
+                }
+            }
+            int[] temp = source;
+            source = destination;
+            destination = temp;
+            event.commit();
+        }
+
+        if (source != values){ // an odd number of passes left the result in the scratch array
+            System.arraycopy(source, 0, values, 0, length);
+            if (listener != null){
+                for (int i = 0; i < length; i++){
+                    listener.onWrite(i, values[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * This is the RecordSorter class that sorts objects by one or more primitive keys.
+ * Every key is read from every record once, into packed long arrays: int keys are packed two into a long, 
+ * so two int keys take one radix sort. Argsort then sorts the permutation of the records stably, 
+ * from the least important packed key to the most important, without touching the records, 
+ * and the records are moved in one gather pass at the end.
+ * 
+ * @param <T> is the type of the records.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class RecordSorter<T> {
+
+    private final List<Key<T>> keys = new ArrayList<>(); // the most important key first
+
+    /**
+     * This is the Key class that reads one encoded key from a record.
+     */
+    private abstract static class Key<T> {
+
+        final int bits;
+        final boolean descending;
+
+        Key(int bitsIn, boolean descendingIn){
+            this.bits = bitsIn;
+            this.descending = descendingIn;
+        }
+
+        abstract long encode(T record);
+
+        long read(T record){
+            long key = encode(record);
+            if (descending){
+                key = ~key;
+                if (bits < 64){
+                    key &= (1L << bits) - 1;
+                }
+            }
+            return key;
+        }
+    }
+
+    /**
+     * The addIntKey method adds an ascending int key, less important than the keys added before.
+     * 
+     * @param extractor is the function that reads the key from a record.
+     */
+    public void addIntKey(ToIntFunction<? super T> extractor){
+        addIntKey(extractor, false);
+    }
+
+    /**
+     * The addIntKey method adds an int key, less important than the keys added before.
+     * 
+     * @param extractor is the function that reads the key from a record.
+     * @param descending is true if larger keys should come first.
+     */
+    public void addIntKey(ToIntFunction<? super T> extractor, boolean descending){
+        keys.add(new Key<T>(32, descending) {
+            @Override
+            long encode(T record){
+                return Argsort.encode(extractor.applyAsInt(record));
+            }
+        });
+    }
+
+    /**
+     * The addLongKey method adds an ascending long key, less important than the keys added before.
+     * 
+     * @param extractor is the function that reads the key from a record.
+     */
+    public void addLongKey(ToLongFunction<? super T> extractor){
+        addLongKey(extractor, false);
+    }
+
+    /**
+     * The addLongKey method adds a long key, less important than the keys added before.
+     * 
+     * @param extractor is the function that reads the key from a record.
+     * @param descending is true if larger keys should come first.
+     */
+    public void addLongKey(ToLongFunction<? super T> extractor, boolean descending){
+        keys.add(new Key<T>(64, descending) {
+            @Override
+            long encode(T record){
+                return Argsort.encode(extractor.applyAsLong(record));
+            }
+        });
+    }
+
+    /**
+     * The addDoubleKey method adds an ascending double key, less important than the keys added before.
+     * The keys are in the order of Double.compare.
+     * 
+     * @param extractor is the function that reads the key from a record.
+     */
+    public void addDoubleKey(ToDoubleFunction<? super T> extractor){
+        addDoubleKey(extractor, false);
+    }
+
+    /**
+     * The addDoubleKey method adds a double key, less important than the keys added before.
+     * The keys are in the order of Double.compare.
+     * 
+     * @param extractor is the function that reads the key from a record.
+     * @param descending is true if larger keys should come first.
+     */
+    public void addDoubleKey(ToDoubleFunction<? super T> extractor, boolean descending){
+        keys.add(new Key<T>(64, descending) {
+            @Override
+            long encode(T record){
+                return Argsort.encode(extractor.applyAsDouble(record));
+            }
+        });
+    }
+
+    /**
+     * The argsort method finds the stable permutation that sorts the records by the keys.
+     * 
+     * @param records is the List of records, which is not changed.
+     * @return the int array of indices, where order[i] is the index of the record that comes i-th.
+     */
+    public int[] argsort(List<? extends T> records){
+        if (keys.isEmpty()){
+            throw new IllegalStateException("no key was added");
+        }
+        int length = records.size();
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++){
+            order[i] = i;
+        }
+
+        List<List<Key<T>>> composites = new ArrayList<>(); // the keys packed into composite longs, the most important first
+        List<Key<T>> composite = new ArrayList<>();
+        int bits = 0;
+        for (Key<T> key : keys){
+            if (bits + key.bits > 64){
+                composites.add(composite);
+                composite = new ArrayList<>();
+                bits = 0;
+            }
+            composite.add(key);
+            bits += key.bits;
+        }
+        composites.add(composite);
+
+        List<long[]> packedKeys = new ArrayList<>();
+        for (List<Key<T>> parts : composites){ // every key is read from every record once
+            long[] packed = new long[length];
+            int i = 0;
+            for (T record : records){
+                long value = 0;
+                for (Key<T> key : parts){
+                    value = (key.bits == 64) ? key.read(record) : (value << key.bits) | key.read(record);
+                }
+                packed[i++] = value;
+            }
+            packedKeys.add(packed);
+        }
+        for (int c = packedKeys.size() - 1; c >= 0; c--){ // the least important first, stable sorts keep its order among equal keys
+            Argsort.sort(packedKeys.get(c), order);
+        }
+        return order;
+    }
+
+    /**
+     * The gather method puts the records into the order of a permutation.
+     * 
+     * @param records is the List of records, which is not changed.
+     * @param order is the int array of indices, where order[i] is the index of the record that comes i-th.
+     * @return a new List of the records in order.
+     */
+    public static <E> List<E> gather(List<? extends E> records, int[] order){
+        Object[] source = records.toArray();
+        List<E> gathered = new ArrayList<>(order.length);
+        for (int index : order){
+            @SuppressWarnings("unchecked")
+            E record = (E) source[index];
+            gathered.add(record);
+        }
+        return gathered;
+    }
+
+    /**
+     * The sort method sorts the records by the keys. Records with equal keys keep their order.
+     * 
+     * @param records is the List of records that is sorted.
+     */
+    public void sort(List<T> records){
+        List<T> sorted = gather(records, argsort(records));
+        for (int i = 0; i < sorted.size(); i++){
+            records.set(i, sorted.get(i));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package engine;
+
+/**
+ * This is the ScalarBlockSorter class that contains the kernels of merge sort without SIMD instructions.
+ * The blocks are sorted with insertion sort, and the merge compares one pair of elements at a time.
+ * It runs everywhere, so it is the fallback when no faster BlockSorter is supported.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class ScalarBlockSorter implements BlockSorter {
+
+    public static final int BLOCK_LENGTH = 32;
+
+    /**
+     * The getName method is the getter method for the name of the kernels.
+     * 
+     * @return "Scalar".
+     */
+    @Override
+    public String getName(){
+        return "Scalar";
+    }
+
+    /**
+     * The getBlockLength method is the getter method for the length of the blocks sorted with insertion sort.
+     * 
+     * @return 32.
+     */
+    @Override
+    public int getBlockLength(){
+        return BLOCK_LENGTH;
+    }
+
+    /**
+     * The sortBlock method sorts the range [from, to) of the array with insertion sort.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param from is an integer value which is the first index of the block (inclusive).
+     * @param to is an integer value which is the last index of the block (exclusive).
+     */
+    @Override
+    public void sortBlock(int[] values, int from, int to){
+        insertionSort(values, from, to);
+    }
+
+    /**
+     * The merge method merges the two sorted ranges of the source into the destination, one element at a time.
+     * 
+     * @param source is the int array that holds the two sorted ranges.
+     * @param from1 is an integer value which is the first index of the first range.
+     * @param to1 is an integer value which is the end of the first range (exclusive).
+     * @param from2 is an integer value which is the first index of the second range.
+     * @param to2 is an integer value which is the end of the second range (exclusive).
+     * @param destination is the int array that receives the merged elements.
+     * @param at is an integer value which is the index of the destination where the first element is written.
+     */
+    @Override
+    public void merge(int[] source, int from1, int to1, int from2, int to2, int[] destination, int at){
+        mergeRanges(source, from1, to1, from2, to2, destination, at);
+    }
+
+    /**
+     * The insertionSort method sorts the range [from, to) of the array with insertion sort.
+     * Other BlockSorter classes can use it for blocks that are shorter than their vectors.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive).
+     */
+    public static void insertionSort(int[] values, int from, int to){
+        for (int i = from + 1; i < to; i++){
+            int value = values[i];
+            int j = i - 1;
+            while (j >= from && values[j] > value){
+                values[j+1] = values[j];
+                j--;
+            }
+            values[j+1] = value;
+        }
+    }
+
+    /**
+     * The mergeRanges method merges the sorted ranges [from1, to1) and [from2, to2) of the source into the destination.
+     * Other BlockSorter classes can use it for the elements that are left after their vector loop.
+     * 
+     * @param source is the int array that holds the two sorted ranges.
+     * @param from1 is an integer value which is the first index of the first range.
+     * @param to1 is an integer value which is the end of the first range (exclusive).
+     * @param from2 is an integer value which is the first index of the second range.
+     * @param to2 is an integer value which is the end of the second range (exclusive).
+     * @param destination is the int array that receives the merged elements.
+     * @param at is an integer value which is the index of the destination where the first element is written.
+     */
+    public static void mergeRanges(int[] source, int from1, int to1, int from2, int to2, int[] destination, int at){
+        int i = from1, j = from2, k = at;
+        while (i<to1 && j<to2){
+            destination[k++] = (source[i] <= source[j]) ? source[i++] : source[j++];
+        }
+        System.arraycopy(source, i, destination, k, to1 - i);
+        System.arraycopy(source, j, destination, k + (to1 - i), to2 - j);
+    }
+}
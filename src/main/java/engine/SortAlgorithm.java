@@ -0,0 +1,93 @@
+package engine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This is the SortAlgorithm interface that every sorting algorithm of the engine implements.
+ * Algorithms work directly on an int array and have no JavaFX dependency, 
+ * so they can run at full speed without any user interface attached.
+ * 
+ * It is also the service interface of the engine: algorithms listed in META-INF/services/engine.SortAlgorithm 
+ * are discovered by SortAlgorithms, so a new algorithm does not need any change to the program that uses it.
+ * Implementations need a public constructor without parameters, and must be safe to share between threads.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public interface SortAlgorithm {
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return the name of the algorithm displayed to the user.
+     */
+    String getName();
+
+    /**
+     * The getId method is the getter method for the short name of the algorithm used on the command line.
+     * By default it is the name in lower case without " Sort", with spaces replaced by dashes, for example "parallel-merge".
+     * 
+     * @return the id of the algorithm.
+     */
+    default String getId(){
+        return getName().toLowerCase().replaceAll(" sort$", "").replace(' ', '-');
+    }
+
+    /**
+     * The getCapabilities method is the getter method for the capabilities that the algorithm declares.
+     * 
+     * @return the set of SortCapability of the algorithm.
+     */
+    default Set<SortCapability> getCapabilities(){
+        return EnumSet.noneOf(SortCapability.class);
+    }
+
+    /**
+     * The hasCapability method checks if the algorithm declares a capability.
+     * 
+     * @param capability is the SortCapability that is checked.
+     * @return true if the algorithm declares the capability.
+     */
+    default boolean hasCapability(SortCapability capability){
+        return getCapabilities().contains(capability);
+    }
+
+    /**
+     * The sort method sorts the array in ascending order and reports every operation to the listener.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    void sort(int[] values, SortListener listener);
+
+    /**
+     * The sort method sorts the array in ascending order without reporting any operation.
+     * 
+     * @param values is the int array that needs to be sorted.
+     */
+    default void sort(int[] values){
+        sort(values, null);
+    }
+
+    /**
+     * The stepper method creates a SortStepper that sorts the array one step at a time.
+     * Only algorithms that declare STEPPABLE support it.
+     * 
+     * @param values is the int array that needs to be sorted.
+     * @exception UnsupportedOperationException if the algorithm is not steppable.
+     * @return the SortStepper of the algorithm.
+     */
+    default SortStepper stepper(int[] values){
+        throw new UnsupportedOperationException(getName() + " can not be run step by step");
+    }
+
+    /**
+     * The sequential method is the getter method for the single-threaded algorithm that a parallel algorithm is compared with.
+     * 
+     * @return the sequential counterpart of the algorithm, or the algorithm itself if it is not parallel.
+     */
+    default SortAlgorithm sequential(){
+        return this;
+    }
+}
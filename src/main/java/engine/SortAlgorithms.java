@@ -0,0 +1,52 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * This is the SortAlgorithms class that discovers the sorting algorithms of the engine with a ServiceLoader.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public final class SortAlgorithms {
+
+    private static List<SortAlgorithm> algorithms;
+
+    private SortAlgorithms(){
+    }
+
+    /**
+     * The all method is the getter method for every algorithm discovered, in the order of the service files.
+     * The algorithms are discovered the first time this method is called.
+     * 
+     * @return the unmodifiable list of SortAlgorithm.
+     */
+    public static synchronized List<SortAlgorithm> all(){
+        if (algorithms == null){
+            List<SortAlgorithm> found = new ArrayList<>();
+            for (SortAlgorithm algorithm : ServiceLoader.load(SortAlgorithm.class)){
+                found.add(algorithm);
+            }
+            algorithms = Collections.unmodifiableList(found);
+        }
+        return algorithms;
+    }
+
+    /**
+     * The find method finds the algorithm with an id.
+     * 
+     * @param id is the String of the id, for example "merge".
+     * @return the SortAlgorithm, or null if no algorithm has the id.
+     */
+    public static SortAlgorithm find(String id){
+        for (SortAlgorithm algorithm : all()){
+            if (algorithm.getId().equals(id)){
+                return algorithm;
+            }
+        }
+        return null;
+    }
+}
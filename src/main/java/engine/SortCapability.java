@@ -0,0 +1,14 @@
+package engine;
+
+/**
+ * This is the SortCapability enum that lists the properties a SortAlgorithm can declare.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public enum SortCapability {
+    STABLE, // equal elements keep their order
+    IN_PLACE, // no auxiliary array proportional to the input
+    STEPPABLE, // the stepper method runs the algorithm one step at a time
+    PARALLEL // the sort uses more than one thread
+}
@@ -0,0 +1,65 @@
+package engine;
+
+/**
+ * This is the SortListener interface that receives the operations performed by a sorting algorithm.
+ * Each operation is reported with the indices of the array that it touched, so a listener can replay it 
+ * on a list, a chart or a table without knowing which algorithm produced it.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public interface SortListener {
+
+    /**
+     * The onCompare method is called when the algorithm compares two elements.
+     * 
+     * @param index1 is an integer value which is the first index compared.
+     * @param index2 is an integer value which is the second index compared.
+     */
+    void onCompare(int index1, int index2);
+
+    /**
+     * The onSwap method is called after the algorithm swapped two elements.
+     * 
+     * @param index1 is an integer value which is the first index swapped.
+     * @param index2 is an integer value which is the second index swapped.
+     */
+    void onSwap(int index1, int index2);
+
+    /**
+     * The onWrite method is called after the algorithm wrote a value into the array.
+     * 
+     * @param index is an integer value which is the index written.
+     * @param value is an integer value which is the value written.
+     */
+    void onWrite(int index, int value);
+
+    /**
+     * The onAllocate method is called when the algorithm allocates auxiliary memory, such as a merge buffer or a histogram.
+     * Listeners that do not measure memory can ignore it.
+     * 
+     * @param bytes is a long value which is the number of bytes allocated.
+     */
+    default void onAllocate(long bytes){
+    }
+
+    /**
+     * The onRun method is called when an adaptive algorithm has found a run, a range of the array that is sorted.
+     * Listeners that do not show runs can ignore it.
+     * 
+     * @param from is an integer value which is the first index of the run.
+     * @param to is an integer value which is the index after the last element of the run.
+     */
+    default void onRun(int from, int to){
+    }
+
+    /**
+     * The onSortedPrefix method is called when an incremental algorithm has put the smallest values in their final positions,
+     * so the first results can be shown before the whole array is sorted.
+     * Listeners that do not show the sorted prefix can ignore it.
+     * 
+     * @param length is an integer value which is the number of positions at the start of the array that are sorted and final.
+     */
+    default void onSortedPrefix(int length){
+    }
+}
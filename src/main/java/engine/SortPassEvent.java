@@ -0,0 +1,46 @@
+package engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This is the SortPassEvent class that records one pass of a sorting algorithm in JDK Flight Recorder:
+ * a sweep of bubble sort, a merge width of merge sort or a byte of radix sort.
+ * For a stepper, the pass lasts from its first step to its last step, including the time between steps.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+@Name("sorting.SortPass")
+@Label("Sort Pass")
+@Category({"Sorting", "Engine"})
+@Description("One pass of a sorting algorithm over the array")
+public class SortPassEvent extends Event {
+
+    @Label("Algorithm")
+    private final String algorithm;
+
+    @Label("Pass")
+    @Description("The index of the pass, starting at 0")
+    private final int pass;
+
+    @Label("Elements")
+    @Description("The number of elements the pass covers")
+    private final int elements;
+
+    /**
+     * The SortPassEvent method is the default constructer of SortPassEvent class.
+     * 
+     * @param algorithmIn is the String of the name of the algorithm.
+     * @param passIn is an integer value which is the index of the pass.
+     * @param elementsIn is an integer value which is the number of elements the pass covers.
+     */
+    public SortPassEvent(String algorithmIn, int passIn, int elementsIn){
+        this.algorithm = algorithmIn;
+        this.pass = passIn;
+        this.elements = elementsIn;
+    }
+}
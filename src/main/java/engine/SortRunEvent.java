@@ -0,0 +1,39 @@
+package engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This is the SortRunEvent class that records a whole sort run in JDK Flight Recorder.
+ * The caller begins the event before the sort and commits it after, so the event carries the duration of the run.
+ * When no recording is running, the event costs almost nothing.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+@Name("sorting.SortRun")
+@Label("Sort Run")
+@Category({"Sorting", "Engine"})
+@Description("A sorting algorithm sorting a whole array")
+public class SortRunEvent extends Event {
+
+    @Label("Algorithm")
+    private final String algorithm;
+
+    @Label("Elements")
+    private final int elements;
+
+    /**
+     * The SortRunEvent method is the default constructer of SortRunEvent class.
+     * 
+     * @param algorithmIn is the String of the name of the algorithm.
+     * @param elementsIn is an integer value which is the length of the array sorted.
+     */
+    public SortRunEvent(String algorithmIn, int elementsIn){
+        this.algorithm = algorithmIn;
+        this.elements = elementsIn;
+    }
+}
@@ -0,0 +1,60 @@
+package engine;
+
+/**
+ * This is the SortStepper interface that runs a sorting algorithm one step at a time.
+ * A stepper keeps the state of the algorithm between calls, so the operations are produced lazily 
+ * and the memory used does not depend on how many steps are left.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public interface SortStepper {
+
+    /**
+     * The isDone method checks if the algorithm has finished sorting.
+     * 
+     * @return true if there is no step left.
+     */
+    boolean isDone();
+
+    /**
+     * The isReady method checks if the next step can be taken without waiting, 
+     * for example when the steps are produced by another thread.
+     * 
+     * @return true if a step can be taken right away, or if the algorithm has finished.
+     */
+    default boolean isReady(){
+        return true;
+    }
+
+    /**
+     * The step method runs the next step of the algorithm and reports its operations to the listener.
+     * Calling it after the algorithm has finished does nothing.
+     * 
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     * @return true if this step finished a pass of the algorithm.
+     */
+    boolean step(SortListener listener);
+
+    /**
+     * The pass method runs the steps that are left in the current pass of the algorithm.
+     * 
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    default void pass(SortListener listener){
+        while (!isDone() && !step(listener)){
+            // keep stepping until the pass is finished
+        }
+    }
+
+    /**
+     * The finish method runs every step that is left, until the array is sorted.
+     * 
+     * @param listener is the SortListener that receives the operations, or null if nobody is listening.
+     */
+    default void finish(SortListener listener){
+        while (!isDone()){
+            step(listener);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package engine;
+
+import java.util.Arrays;
+
+/**
+ * This is the TopK class that keeps the k smallest or the k largest values of a stream that keeps growing.
+ * The values kept are in a bounded binary heap whose root is the worst of them, so a value that does not belong
+ * to the top k is rejected with one comparison, and a value that does replaces the root in O(log k).
+ * The memory used depends on k only, not on how many values were streamed.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class TopK {
+
+    private final boolean largest;
+    private final int[] heap; // the keys of the values kept, the biggest key at the root
+    private int size;
+    private long count;
+
+    /**
+     * The TopK method is the default constructer of TopK class.
+     * 
+     * @param kIn is a positive integer value which is the number of values kept.
+     * @param largestIn is true to keep the largest values, and false to keep the smallest values.
+     */
+    public TopK(int kIn, boolean largestIn){
+        if (kIn <= 0){
+            throw new IllegalArgumentException("k must be positive: " + kIn);
+        }
+        this.heap = new int[kIn];
+        this.largest = largestIn;
+    }
+
+    /**
+     * The add method offers one value of the stream.
+     * 
+     * @param value is an integer value of the stream.
+     */
+    public void add(int value){
+        count++;
+        offer(largest ? ~value : value);
+    }
+
+    /**
+     * The addAll method offers a batch of values of the stream.
+     * 
+     * @param batch is the int array of the values.
+     */
+    public void addAll(int[] batch){
+        addAll(batch, 0, batch.length);
+    }
+
+    /**
+     * The addAll method offers the values of the range [from, to) of a batch.
+     * 
+     * @param batch is the int array of the values.
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive).
+     */
+    public void addAll(int[] batch, int from, int to){
+        count += to - from;
+        int flip = largest ? -1 : 0; // ~value is value ^ -1, which reverses the order of ints
+        for (int i = from; i < to; i++){
+            int key = batch[i] ^ flip;
+            if (size < heap.length || key < heap[0]){ // most values of a long stream are rejected here
+                offer(key);
+            }
+        }
+    }
+
+    /**
+     * The getK method is the getter method for the number of values kept.
+     * 
+     * @return k.
+     */
+    public int getK(){
+        return heap.length;
+    }
+
+    /**
+     * The isLargest method checks if the largest values are kept.
+     * 
+     * @return true if the largest values are kept, and false if the smallest values are kept.
+     */
+    public boolean isLargest(){
+        return largest;
+    }
+
+    /**
+     * The size method is the getter method for the number of values kept, which is k once k values were streamed.
+     * 
+     * @return the number of values kept.
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * The getCount method is the getter method for the number of values streamed so far.
+     * 
+     * @return the number of values streamed.
+     */
+    public long getCount(){
+        return count;
+    }
+
+    /**
+     * The toSortedArray method sorts the values kept, the best first:
+     * in ascending order for the smallest values, and in descending order for the largest values.
+     * 
+     * @return the int array of the values kept.
+     */
+    public int[] toSortedArray(){
+        int[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted);
+        if (largest){
+            for (int i = 0; i < size; i++){
+                sorted[i] = ~sorted[i];
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * The clear method forgets every value, so a new stream can start.
+     */
+    public void clear(){
+        size = 0;
+        count = 0;
+    }
+
+    /**
+     * The offer method adds a key to the heap while it is not full,
+     * and otherwise replaces the root with the key if the key is smaller.
+     * 
+     * @param key is an integer value which is the key of the value.
+     */
+    private void offer(int key){
+        if (size < heap.length){ // sift up from the new leaf
+            int child = size++;
+            while (child > 0){
+                int parent = (child - 1) >>> 1;
+                if (heap[parent] >= key){
+                    break;
+                }
+                heap[child] = heap[parent];
+                child = parent;
+            }
+            heap[child] = key;
+        } else if (key < heap[0]){ // sift down from the root
+            int parent = 0;
+            int child;
+            while ((child = 2 * parent + 1) < size){
+                if (child + 1 < size && heap[child + 1] > heap[child]){
+                    child++;
+                }
+                if (heap[child] <= key){
+                    break;
+                }
+                heap[parent] = heap[child];
+                parent = child;
+            }
+            heap[parent] = key;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This is the TracePlayer class that replays a trace written by TraceRecorder.
+ * The records and the snapshots are read through memory-mapped buffers, and any position can be reached by 
+ * restoring the nearest snapshot before it and replaying at most one checkpoint interval of operations, 
+ * so seeking, stepping backward and scrubbing cost the same anywhere in the trace.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class TracePlayer implements Closeable {
+
+    private static final long SEGMENT_RECORDS = 1L << 26; // every mapped segment of the records holds 64M records
+
+    private final FileChannel records;
+    private final FileChannel checkpoints;
+    private final MappedByteBuffer[] segments;
+    private final int checkpointInterval;
+    private final long size;
+    private final int[] values;
+    private long position;
+
+    /**
+     * The TracePlayer method is the default constructer of TracePlayer class.
+     * The player starts at position 0, before the first operation.
+     * 
+     * @param path is the path of the trace file. Its checkpoint file has to be next to it.
+     * @exception IOException if the files can not be read, or are not a trace.
+     */
+    public TracePlayer(Path path) throws IOException {
+        this.records = FileChannel.open(path, StandardOpenOption.READ);
+        this.checkpoints = FileChannel.open(TraceRecorder.checkpointPath(path), StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(TraceRecorder.HEADER_BYTES);
+        while (header.hasRemaining() && records.read(header) != -1){
+            // read the whole header
+        }
+        header.flip();
+        if (header.remaining() < TraceRecorder.HEADER_BYTES || header.getInt() != TraceRecorder.MAGIC || header.getInt() != TraceRecorder.VERSION){
+            close();
+            throw new IOException(path + " is not a sort trace");
+        }
+        this.values = new int[header.getInt()];
+        this.checkpointInterval = header.getInt();
+        this.size = (records.size() - TraceRecorder.HEADER_BYTES) / TraceRecorder.RECORD_BYTES;
+
+        this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_RECORDS - 1) / SEGMENT_RECORDS)];
+        for (int i = 0; i < segments.length; i++){
+            long first = i * SEGMENT_RECORDS;
+            long count = Math.min(SEGMENT_RECORDS, size - first);
+            segments[i] = records.map(FileChannel.MapMode.READ_ONLY, TraceRecorder.HEADER_BYTES + first * TraceRecorder.RECORD_BYTES,
+                                      count * TraceRecorder.RECORD_BYTES);
+        }
+        restore(0);
+    }
+
+    /**
+     * The size method is the getter method for the number of operations in the trace.
+     * 
+     * @return size is the number of operations.
+     */
+    public long size(){
+        return size;
+    }
+
+    /**
+     * The getPosition method is the getter method for the number of operations applied to the values.
+     * 
+     * @return position is the number of operations applied.
+     */
+    public long getPosition(){
+        return position;
+    }
+
+    /**
+     * The getValues method is the getter method for the array at the current position.
+     * The array is owned by the player and changes when the player moves, so callers should copy it to keep it.
+     * 
+     * @return values is the int array at the current position.
+     */
+    public int[] getValues(){
+        return values;
+    }
+
+    /**
+     * The seek method moves to a position, restoring a snapshot first if the position is behind 
+     * or more than one checkpoint interval ahead.
+     * 
+     * @param target is a long value between 0 and size which is the position moved to.
+     * @exception IOException if a snapshot can not be read.
+     */
+    public void seek(long target) throws IOException {
+        if (target < 0 || target > size){
+            throw new IndexOutOfBoundsException("position " + target + " is outside [0, " + size + "]");
+        }
+        if (target < position || target - position > checkpointInterval){
+            restore(target / checkpointInterval);
+        }
+        while (position < target){
+            apply(position++, null);
+        }
+    }
+
+    /**
+     * The stepForward method applies the next operation and reports it to the listener.
+     * 
+     * @param listener is the SortListener that receives the operation, or null if nobody is listening.
+     * @return true if there was an operation left.
+     */
+    public boolean stepForward(SortListener listener){
+        if (position >= size){
+            return false;
+        }
+        apply(position++, listener);
+        return true;
+    }
+
+    /**
+     * The stepBackward method moves back by one operation.
+     * The values are restored from a snapshot, so the caller has to show the whole array again.
+     * 
+     * @exception IOException if a snapshot can not be read.
+     * @return true if there was an operation before the position.
+     */
+    public boolean stepBackward() throws IOException {
+        if (position == 0){
+            return false;
+        }
+        seek(position - 1);
+        return true;
+    }
+
+    /**
+     * The reportLast method reports the operation just before the position to the listener without applying it, 
+     * for example to highlight it after a seek.
+     * 
+     * @param listener is the SortListener that receives the operation.
+     */
+    public void reportLast(SortListener listener){
+        if (position == 0){
+            return;
+        }
+        ByteBuffer segment = segments[(int) ((position - 1) / SEGMENT_RECORDS)];
+        int offset = (int) ((position - 1) % SEGMENT_RECORDS) * TraceRecorder.RECORD_BYTES;
+        byte operation = segment.get(offset);
+        int a = segment.getInt(offset + 1);
+        int b = segment.getInt(offset + 5);
+        if (operation == TraceRecorder.COMPARE){
+            listener.onCompare(a, b);
+        } else if (operation == TraceRecorder.SWAP){
+            listener.onSwap(a, b);
+        } else if (operation == TraceRecorder.RUN){
+            listener.onRun(a, b);
+        } else if (operation == TraceRecorder.SORTED_PREFIX){
+            listener.onSortedPrefix(a);
+        } else{
+            listener.onWrite(a, b);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            records.close();
+        }
+        finally {
+            checkpoints.close();
+        }
+    }
+
+    /**
+     * The restore method copies a snapshot into the values.
+     * 
+     * @param checkpoint is a long value which is the index of the snapshot.
+     * @exception IOException if the snapshot can not be read.
+     */
+    private void restore(long checkpoint) throws IOException {
+        long bytes = (long) values.length * Integer.BYTES;
+        if (bytes > 0){
+            checkpoints.map(FileChannel.MapMode.READ_ONLY, checkpoint * bytes, bytes).asIntBuffer().get(values);
+        }
+        position = checkpoint * checkpointInterval;
+    }
+
+    /**
+     * The apply method applies one operation to the values and reports it to the listener.
+     * 
+     * @param index is a long value which is the index of the operation.
+     * @param listener is the SortListener that receives the operation, or null if nobody is listening.
+     */
+    private void apply(long index, SortListener listener){
+        ByteBuffer segment = segments[(int) (index / SEGMENT_RECORDS)];
+        int offset = (int) (index % SEGMENT_RECORDS) * TraceRecorder.RECORD_BYTES;
+        byte operation = segment.get(offset);
+        int a = segment.getInt(offset + 1);
+        int b = segment.getInt(offset + 5);
+        if (operation == TraceRecorder.SWAP){
+            int temp = values[a];
+            values[a] = values[b];
+            values[b] = temp;
+            if (listener != null){
+                listener.onSwap(a, b);
+            }
+        } else if (operation == TraceRecorder.WRITE){
+            values[a] = b;
+            if (listener != null){
+                listener.onWrite(a, b);
+            }
+        } else if (operation == TraceRecorder.RUN){
+            if (listener != null){
+                listener.onRun(a, b);
+            }
+        } else if (operation == TraceRecorder.SORTED_PREFIX){
+            if (listener != null){
+                listener.onSortedPrefix(a);
+            }
+        } else if (listener != null){
+            listener.onCompare(a, b);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This is the TraceRecorder class that writes the operations of a sort run to a compact binary trace, 
+ * so the run can be replayed, scrubbed and stepped backward by a TracePlayer without sorting again.
+ * 
+ * The trace file starts with a header (magic, version, length of the array, checkpoint interval) 
+ * followed by one 9-byte record per operation: the operation, then its two ints. 
+ * Next to it, the checkpoint file holds a snapshot of the whole array every checkpoint interval operations, 
+ * starting with the array before the first operation. All numbers are big-endian.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class TraceRecorder implements SortListener, Closeable {
+
+    static final int MAGIC = 0x53525454; // "SRTT"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 9;
+    static final byte COMPARE = 0;
+    static final byte SWAP = 1;
+    static final byte WRITE = 2;
+    static final byte RUN = 3;
+    static final byte SORTED_PREFIX = 4;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int[] shadow; // the array as it is after the recorded operations
+    private final int checkpointInterval;
+    private final FileChannel records;
+    private final FileChannel checkpoints;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long operations;
+
+    /**
+     * The TraceRecorder method is the default constructer of TraceRecorder class.
+     * It uses a checkpoint interval of the length of the array, but at least 1024 operations, 
+     * so the snapshots take about as much space as the records.
+     * 
+     * @param path is the path of the trace file, replaced if it exists. The checkpoints are written next to it.
+     * @param values is the int array before the sort, which is copied.
+     * @exception IOException if the files can not be written.
+     */
+    public TraceRecorder(Path path, int[] values) throws IOException {
+        this(path, values, Math.max(1024, values.length));
+    }
+
+    /**
+     * The TraceRecorder method is the constructer of TraceRecorder class with a chosen checkpoint interval.
+     * 
+     * @param path is the path of the trace file, replaced if it exists. The checkpoints are written next to it.
+     * @param values is the int array before the sort, which is copied.
+     * @param checkpointIntervalIn is a positive integer value which is the number of operations between two snapshots.
+     * @exception IOException if the files can not be written.
+     */
+    public TraceRecorder(Path path, int[] values, int checkpointIntervalIn) throws IOException {
+        if (checkpointIntervalIn <= 0){
+            throw new IllegalArgumentException("checkpointInterval must be positive: " + checkpointIntervalIn);
+        }
+        this.shadow = values.clone();
+        this.checkpointInterval = checkpointIntervalIn;
+        this.records = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.checkpoints = FileChannel.open(checkpointPath(path), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(shadow.length).putInt(checkpointInterval);
+        writeCheckpoint();
+    }
+
+    @Override
+    public void onCompare(int index1, int index2){
+        record(COMPARE, index1, index2);
+    }
+
+    @Override
+    public void onSwap(int index1, int index2){
+        int temp = shadow[index1];
+        shadow[index1] = shadow[index2];
+        shadow[index2] = temp;
+        record(SWAP, index1, index2);
+    }
+
+    @Override
+    public void onWrite(int index, int value){
+        shadow[index] = value;
+        record(WRITE, index, value);
+    }
+
+    @Override
+    public void onRun(int from, int to){
+        record(RUN, from, to);
+    }
+
+    @Override
+    public void onSortedPrefix(int length){
+        record(SORTED_PREFIX, length, 0);
+    }
+
+    /**
+     * The getOperations method is the getter method for the number of operations recorded.
+     * 
+     * @return operations is the number of operations.
+     */
+    public long getOperations(){
+        return operations;
+    }
+
+    /**
+     * The close method writes the records that are still buffered and closes the files.
+     * 
+     * @exception IOException if the files can not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        }
+        finally {
+            records.close();
+            checkpoints.close();
+        }
+    }
+
+    /**
+     * The checkpointPath method finds the path of the checkpoint file of a trace file.
+     * 
+     * @param path is the path of the trace file.
+     * @return the path of the checkpoint file.
+     */
+    public static Path checkpointPath(Path path){
+        Path name = path.getFileName();
+        Path checkpoint = Paths.get(name + ".checkpoints");
+        return (path.getParent() == null) ? checkpoint : path.getParent().resolve(checkpoint);
+    }
+
+    /**
+     * The delete method deletes a trace file and its checkpoint file, if they exist.
+     * 
+     * @param path is the path of the trace file.
+     * @exception IOException if a file can not be deleted.
+     */
+    public static void delete(Path path) throws IOException {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(checkpointPath(path));
+    }
+
+    /**
+     * The record method appends one record to the buffer, and writes a snapshot every checkpoint interval operations.
+     * The listener methods can not throw IOException, so failures are thrown as UncheckedIOException.
+     * 
+     * @param operation is the byte of the operation.
+     * @param a is an integer value which is the first int of the operation.
+     * @param b is an integer value which is the second int of the operation.
+     */
+    private void record(byte operation, int a, int b){
+        try {
+            if (buffer.remaining() < RECORD_BYTES){
+                flush();
+            }
+            buffer.put(operation).putInt(a).putInt(b);
+            operations++;
+            if (operations % checkpointInterval == 0){
+                writeCheckpoint();
+            }
+        }
+        catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()){
+            records.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void writeCheckpoint() throws IOException {
+        ByteBuffer snapshot = ByteBuffer.allocate(BUFFER_SIZE);
+        for (int value : shadow){
+            if (!snapshot.hasRemaining()){
+                snapshot.flip();
+                while (snapshot.hasRemaining()){
+                    checkpoints.write(snapshot);
+                }
+                snapshot.clear();
+            }
+            snapshot.putInt(value);
+        }
+        snapshot.flip();
+        while (snapshot.hasRemaining()){
+            checkpoints.write(snapshot);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * This is the sorting module that contains the sorting visualizer and its sort engine.
+ * The engine package does not depend on JavaFX, and other programs can use it or add sorting algorithms to it.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+module sorting {
+    requires javafx.controls;
+    requires javafx.fxml;
+    requires transitive jdk.jfr; // the events of the engine package extend jdk.jfr.Event
+
+    exports engine;
+    exports sorting to javafx.graphics; // App is started by the JavaFX launcher
+    opens sorting to javafx.fxml, javafx.base; // the controllers are built by FXMLLoader, and the table columns read the getters by reflection
+
+    uses engine.SortAlgorithm;
+    uses engine.BlockSorter; // the vector module can add faster kernels for merge sort
+    provides engine.SortAlgorithm with engine.BubbleSort, engine.MergeSort, engine.ParallelMergeSort, engine.CountingSort, engine.RadixSort,
+            engine.NaturalMergeSort, engine.IncrementalQuickSort;
+}
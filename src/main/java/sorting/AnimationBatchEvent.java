@@ -0,0 +1,27 @@
+package sorting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This is the AnimationBatchEvent class that records the steps the PlaybackScheduler runs on one pulse in JDK Flight Recorder.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+@Name("sorting.AnimationBatch")
+@Label("Animation Batch")
+@Category({"Sorting", "Visualizer"})
+@Description("The sort steps run and displayed on one pulse")
+public class AnimationBatchEvent extends Event {
+
+    @Label("Steps")
+    int steps;
+
+    @Label("Finished")
+    @Description("True if the animation finished on this pulse")
+    boolean finished;
+}
@@ -0,0 +1,113 @@
+package sorting;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is the JavaFX App class that creates the main structure of te program.
+ * This class is also used to pass information between scenes.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class App extends Application {
+
+    private static Scene scene;
+    private static final Map<String, FXMLLoader> loaded = new HashMap<>(); // the loaded scenes with their controllers, by fxml name
+    private static int[] raceValues; // the list that the secondary scene passes to the race scene
+
+    /**
+     * The start method is the main entry point for all JavaFX applications.
+     * 
+     * @param stage is a top-level container that host scenes.
+     * @exception IOException if the stream is corrupted or errors occurred during reading the data (connecting to the fxml files).
+     */
+    @Override
+    public void start(Stage stage) throws IOException {
+        scene = new Scene(loadFXML("primary"), 900, 480);
+        stage.setScene(scene);
+        stage.show();
+        if (Boolean.getBoolean("sorting.trainingRun")){ // started by the fast-start build to record the classes loaded at startup
+            setRoot("secondary");
+            setRoot("race");
+            setRoot("primary");
+            new AnimationTimer() {
+                @Override
+                public void handle(long now){
+                    stop();
+                    Platform.exit(); // after the first frame
+                }
+            }.start();
+        }
+    }
+
+    /**
+     * The setRoot method sets the root of the scene that the program is displaying.
+     * Every fxml file is only loaded once: switching back to a scene reuses its nodes and its controller, so the list and the sort state are kept.
+     * 
+     * @param fxml is the fxml file that the program sets root to.
+     * @exception IOException if the stream is corrupted or errors occurred during reading the data (connecting to the fxml files).
+     */
+    static void setRoot(String fxml) throws IOException {
+        scene.setRoot(loadFXML(fxml));
+        Object controller = loaded.get(fxml).getController();
+        if (controller instanceof SceneController){
+            ((SceneController) controller).onShow();
+        }
+    }
+
+    /**
+     * The setRaceValues method sets the list that the race scene sorts.
+     * 
+     * @param values is the int array that every algorithm of the race starts with.
+     */
+    static void setRaceValues(int[] values){
+        raceValues = values;
+    }
+
+    /**
+     * The getRaceValues method is the getter method for the list that the race scene sorts.
+     * 
+     * @return raceValues is the int array, or null if the secondary scene did not pass one.
+     */
+    static int[] getRaceValues(){
+        return raceValues;
+    }
+
+    /**
+     * The loadFXML method gets the base parent subclass, loading the fxml file the first time it is asked for.
+     * 
+     * @param fxml is the fxml file that the program is reading from.
+     * @exception IOException if the stream is corrupted or errors occurred during reading the data (connecting to the fxml files).
+     * @return the root of the fxml file, which is the base class for all nodes that have children.
+     */
+    private static Parent loadFXML(String fxml) throws IOException {
+        FXMLLoader fxmlLoader = loaded.get(fxml);
+        if (fxmlLoader == null){
+            fxmlLoader = new FXMLLoader(App.class.getResource(fxml + ".fxml"));
+            fxmlLoader.load();
+            loaded.put(fxml, fxmlLoader);
+        }
+        return fxmlLoader.getRoot();
+    }
+
+    /**
+     * The main class launches the program.
+     * Start the program from Launcher to use the batch sort, because the toolkit is already running when this method is called.
+     * 
+     * @param args are the command line arguments.
+     */
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package sorting;
+
+import javafx.scene.Node;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.XYChart;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is the BarChartModel class that keeps the bars of the bar chart in the program.
+ * The bars are created once for every generated list, and afterwards only the bars whose values changed are updated,
+ * so the cost of a swap or a write does not depend on the length of the list.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class BarChartModel implements ChartModel {
+
+    private static final String SORTED_STYLE = "-fx-bar-fill: seagreen;";
+
+    private final BarChart<String, Number> barChart;
+    private final List<XYChart.Data<String, Number>> bars = new ArrayList<>();
+    private int sortedLength;
+
+    /**
+     * The BarChartModel method is the default constructer of BarChartModel class.
+     * The chart animation is turned off because every step already updates the chart.
+     * 
+     * @param barChartIn is the bar chart that displays the bars.
+     */
+    public BarChartModel(BarChart<String, Number> barChartIn){
+        this.barChart = barChartIn;
+        this.barChart.setAnimated(false);
+        this.barChart.getXAxis().setTickLabelsVisible(false);
+    }
+
+    /**
+     * The setValues method creates one bar for every value and replaces the bars in the chart.
+     * It should only be called when a new list is generated.
+     * 
+     * @param values is the int array that the bars represent.
+     */
+    @Override
+    public void setValues(int[] values){
+        ChartUpdateEvent event = new ChartUpdateEvent(values.length, true);
+        event.begin();
+        bars.clear();
+        sortedLength = 0;
+        XYChart.Series<String, Number> series = new XYChart.Series<String, Number>();
+        for (int i = 0; i < values.length; i++){
+            XYChart.Data<String, Number> bar = new XYChart.Data<String, Number>(Integer.toString(i), values[i]);
+            bars.add(bar);
+        }
+        series.getData().setAll(bars);
+        barChart.getData().clear();
+        barChart.getData().add(series);
+        event.commit();
+    }
+
+    /**
+     * The refresh method updates every existing bar to the values without creating new bars.
+     * If the length of the values is different from the number of bars, the bars are created again.
+     * 
+     * @param values is the int array that the bars represent.
+     */
+    @Override
+    public void refresh(int[] values){
+        if (values.length != bars.size()){
+            setValues(values);
+            return;
+        }
+        ChartUpdateEvent event = new ChartUpdateEvent(values.length, false);
+        event.begin();
+        for (int i = 0; i < values.length; i++){
+            set(i, values[i]);
+        }
+        event.commit();
+    }
+
+    /**
+     * The set method updates the bar at the index.
+     * 
+     * @param index is an integer value which is the index of the bar.
+     * @param value is an integer value which is the new value of the bar.
+     */
+    @Override
+    public void set(int index, int value){
+        XYChart.Data<String, Number> bar = bars.get(index);
+        if (bar.getYValue().intValue() != value){
+            bar.setYValue(value);
+        }
+    }
+
+    /**
+     * The swap method swaps the values of the bars at the two indices.
+     * 
+     * @param index1 is an integer value which is the index of the first bar.
+     * @param index2 is an integer value which is the index of the second bar.
+     */
+    @Override
+    public void swap(int index1, int index2){
+        XYChart.Data<String, Number> bar1 = bars.get(index1);
+        XYChart.Data<String, Number> bar2 = bars.get(index2);
+        Number temp = bar1.getYValue();
+        bar1.setYValue(bar2.getYValue());
+        bar2.setYValue(temp);
+    }
+
+    /**
+     * The showSortedPrefix method colours the bars of the sorted prefix, and only restyles the bars whose colour changes.
+     * 
+     * @param length is an integer value which is the length of the sorted prefix, or 0 to show none.
+     */
+    @Override
+    public void showSortedPrefix(int length){
+        length = Math.min(length, bars.size());
+        String style = (length > sortedLength) ? SORTED_STYLE : "";
+        for (int i = Math.min(sortedLength, length); i < Math.max(sortedLength, length); i++){
+            Node node = bars.get(i).getNode();
+            if (node != null){ // the node is created when the bar is first laid out
+                node.setStyle(style);
+            }
+        }
+        sortedLength = length;
+    }
+}
@@ -0,0 +1,346 @@
+package sorting;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import engine.ExternalSort;
+import engine.ExternalSortListener;
+import engine.MergeSort;
+import engine.OffHeapSort;
+import engine.OperationCounter;
+import engine.RadixSort;
+import engine.SortAlgorithm;
+import engine.SortAlgorithms;
+import engine.SortCapability;
+import engine.SortRunEvent;
+
+/**
+ * This is the BatchSort class that sorts integers from the command line, without any window.
+ * It reads whitespace-separated integers from standard input or a file, sorts them with the chosen algorithm 
+ * and writes them one per line through buffered NIO channels. The timing and the operation counts go to standard error,
+ * so the sorted output can be piped.
+ * With --external, the input and output are binary files of big-endian ints, sorted by ExternalSort so they can be bigger than the heap.
+ * With --off-heap, they are binary files of the same format that are memory-mapped and sorted by OffHeapSort, without copying them into the heap.
+ * This class does not touch JavaFX, so the toolkit is never started.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class BatchSort {
+
+    static final String SORT_OPTION = "--sort";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String USAGE = "Usage: " + SORT_OPTION + " <algorithm> [--input file] [--output file] [--count]\n"
+                                      + "       " + SORT_OPTION + " <algorithm> --external --input file --output file [--run-size ints] [--fan-in runs]\n"
+                                      + "       " + SORT_OPTION + " <radix|merge> --off-heap --input file --output file\n"
+                                      + "Algorithms:";
+
+    /**
+     * The main method runs the batch sort, so it can also be started without the App class.
+     * 
+     * @param args are the command line arguments, starting with --sort.
+     */
+    public static void main(String[] args){
+        System.exit(run(args));
+    }
+
+    /**
+     * The isBatchMode method checks if the command line arguments ask for the batch sort.
+     * 
+     * @param args are the command line arguments.
+     * @return true if the first argument is --sort.
+     */
+    static boolean isBatchMode(String[] args){
+        return args.length > 0 && SORT_OPTION.equals(args[0]);
+    }
+
+    /**
+     * The run method parses the command line arguments and sorts the input.
+     * 
+     * @param args are the command line arguments, starting with --sort.
+     * @return the exit code: 0 if the sort succeeded, 1 if reading or writing failed, 2 if the arguments are not valid.
+     */
+    static int run(String[] args){
+        PrintStream err = System.err;
+        SortAlgorithm algorithm = (args.length < 2) ? null : SortAlgorithms.find(args[1]);
+        if (algorithm == null || !SORT_OPTION.equals(args[0])){
+            printUsage(err);
+            return 2;
+        }
+        String input = null;
+        String output = null;
+        boolean count = false;
+        boolean external = false;
+        boolean offHeap = false;
+        int runSize = ExternalSort.DEFAULT_RUN_SIZE;
+        int fanIn = ExternalSort.DEFAULT_FAN_IN;
+        try {
+            for (int i = 2; i < args.length; i++){
+                if ("--input".equals(args[i]) && i + 1 < args.length){
+                    input = args[++i];
+                } else if ("--output".equals(args[i]) && i + 1 < args.length){
+                    output = args[++i];
+                } else if ("--count".equals(args[i])){
+                    count = true;
+                } else if ("--external".equals(args[i])){
+                    external = true;
+                } else if ("--off-heap".equals(args[i])){
+                    offHeap = true;
+                } else if ("--run-size".equals(args[i]) && i + 1 < args.length){
+                    runSize = Integer.parseInt(args[++i]);
+                } else if ("--fan-in".equals(args[i]) && i + 1 < args.length){
+                    fanIn = Integer.parseInt(args[++i]);
+                } else{
+                    printUsage(err);
+                    return 2;
+                }
+            }
+        }
+        catch (NumberFormatException e){ // if a run size or fan-in is not an integer
+            printUsage(err);
+            return 2;
+        }
+        if (external){
+            if (input == null || output == null || runSize <= 0 || fanIn < 2){
+                printUsage(err);
+                return 2;
+            }
+            return runExternal(algorithm, input, output, runSize, fanIn);
+        }
+        if (offHeap){
+            boolean radix = algorithm instanceof RadixSort;
+            if (input == null || output == null || !(radix || algorithm instanceof MergeSort)){
+                printUsage(err);
+                return 2;
+            }
+            return runOffHeap(algorithm, input, output, radix);
+        }
+
+        try {
+            long start = System.nanoTime();
+            int[] values;
+            try (ReadableByteChannel in = (input == null) ? Channels.newChannel(System.in) : new FileInputStream(input).getChannel()){
+                values = readInts(in);
+            }
+            long readNanos = System.nanoTime() - start;
+
+            OperationCounter counter = null;
+            if (count){ // counting slows the sort down, so the counts come from a separate run on a copy
+                counter = new OperationCounter();
+                algorithm.sort(values.clone(), algorithm.hasCapability(SortCapability.PARALLEL) ? counter.concurrent() : counter);
+            }
+
+            SortRunEvent event = new SortRunEvent(algorithm.getName(), values.length);
+            event.begin();
+            start = System.nanoTime();
+            algorithm.sort(values);
+            long sortNanos = System.nanoTime() - start;
+            event.commit();
+
+            start = System.nanoTime();
+            try (WritableByteChannel out = (output == null) ? Channels.newChannel(System.out) : new FileOutputStream(output).getChannel()){
+                writeInts(values, out);
+            }
+            long writeNanos = System.nanoTime() - start;
+
+            err.printf("%s: %d numbers, read %.3f ms, sort %.3f ms, write %.3f ms%n",
+                    algorithm.getName(), values.length, readNanos / 1e6, sortNanos / 1e6, writeNanos / 1e6);
+            if (counter != null){
+                err.printf("comparisons %d, swaps %d, writes %d, auxiliary %d bytes%n",
+                        counter.getComparisons(), counter.getSwaps(), counter.getWrites(), counter.getAuxiliaryBytes());
+            }
+            return 0;
+        }
+        catch (NumberFormatException e){ // if the input contains something that is not an integer
+            err.println("The input has to contain integers only: " + e.getMessage());
+            return 1;
+        }
+        catch (IOException e){ // if the input or the output can not be opened, read or written
+            err.println(e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * The runExternal method sorts a binary file of ints with ExternalSort and prints the progress to standard error.
+     * 
+     * @param algorithm is the SortAlgorithm that sorts every run in memory.
+     * @param input is the path of the binary file that is sorted.
+     * @param output is the path of the binary file that is written.
+     * @param runSize is a positive integer value which is the number of ints in a run.
+     * @param fanIn is an integer value of at least 2 which is the number of runs merged at once.
+     * @return the exit code: 0 if the sort succeeded, 1 if reading or writing failed.
+     */
+    private static int runExternal(SortAlgorithm algorithm, String input, String output, int runSize, int fanIn){
+        PrintStream err = System.err;
+        ExternalSort externalSort = new ExternalSort(algorithm, runSize, fanIn);
+        externalSort.setListener(new ExternalSortListener() {
+            @Override
+            public void onRunSorted(int run, long sorted, long total){
+                err.printf("run %d sorted, %d of %d numbers%n", run, sorted, total);
+            }
+
+            @Override
+            public void onMergeProgress(int pass, long merged, long total){
+                err.printf("merge pass %d, %d of %d numbers%n", pass, merged, total);
+            }
+        });
+        try {
+            long start = System.nanoTime();
+            externalSort.sort(Paths.get(input), Paths.get(output));
+            err.printf("External %s: %.3f ms%n", algorithm.getName(), (System.nanoTime() - start) / 1e6);
+            return 0;
+        }
+        catch (IOException e){ // if the input or the output can not be read or written
+            err.println(e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * The runOffHeap method sorts a binary file of ints in memory-mapped buffers with OffHeapSort.
+     * 
+     * @param algorithm is the SortAlgorithm chosen, which is RadixSort or MergeSort.
+     * @param input is the path of the binary file that is sorted.
+     * @param output is the path of the binary file that is written.
+     * @param radix is true to sort with radix sort, and false to sort with merge sort.
+     * @return the exit code: 0 if the sort succeeded, 1 if reading or writing failed.
+     */
+    private static int runOffHeap(SortAlgorithm algorithm, String input, String output, boolean radix){
+        PrintStream err = System.err;
+        try {
+            long start = System.nanoTime();
+            OffHeapSort.sortFile(Paths.get(input), Paths.get(output), radix);
+            err.printf("Off-heap %s: %.3f ms%n", algorithm.getName(), (System.nanoTime() - start) / 1e6);
+            return 0;
+        }
+        catch (IOException e){ // if the input or the output can not be read or written
+            err.println(e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * The printUsage method prints the command line arguments, and the id of every algorithm that can be chosen.
+     * 
+     * @param err is the PrintStream that the usage is printed to.
+     */
+    private static void printUsage(PrintStream err){
+        err.println(USAGE);
+        for (SortAlgorithm algorithm : SortAlgorithms.all()){
+            err.printf("  %-16s %s %s%n", algorithm.getId(), algorithm.getName(), algorithm.getCapabilities());
+        }
+    }
+
+    /**
+     * The readInts method reads whitespace-separated integers from the channel.
+     * 
+     * @param in is the channel that is read until its end.
+     * @exception IOException if reading from the channel fails.
+     * @exception NumberFormatException if the input contains something that is not an integer.
+     * @return the int array of the integers read, in the order they were read.
+     */
+    static int[] readInts(ReadableByteChannel in) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        int[] values = new int[1024];
+        int size = 0;
+        long number = 0;
+        boolean negative = false;
+        int digits = 0;
+
+        while (in.read(buffer) != -1){
+            buffer.flip();
+            while (buffer.hasRemaining()){
+                byte c = buffer.get();
+                if (c >= '0' && c <= '9'){
+                    number = number * 10 + (c - '0');
+                    if (++digits > 10 || number > (negative ? 1L + Integer.MAX_VALUE : Integer.MAX_VALUE)){
+                        throw new NumberFormatException("number out of range after " + size + " numbers");
+                    }
+                } else if (c == '-' && digits == 0 && !negative){
+                    negative = true;
+                } else if (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == ','){
+                    if (digits > 0){
+                        if (size == values.length){
+                            values = Arrays.copyOf(values, size * 2);
+                        }
+                        values[size++] = (int) (negative ? -number : number);
+                    } else if (negative){
+                        throw new NumberFormatException("'-' without digits after " + size + " numbers");
+                    }
+                    number = 0;
+                    negative = false;
+                    digits = 0;
+                } else{
+                    throw new NumberFormatException("unexpected character '" + (char) c + "' after " + size + " numbers");
+                }
+            }
+            buffer.clear();
+        }
+        if (digits > 0){ // the last number is not followed by whitespace
+            if (size == values.length){
+                values = Arrays.copyOf(values, size + 1);
+            }
+            values[size++] = (int) (negative ? -number : number);
+        } else if (negative){
+            throw new NumberFormatException("'-' without digits after " + size + " numbers");
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * The writeInts method writes the integers to the channel, one per line.
+     * 
+     * @param values is the int array that is written.
+     * @param out is the channel that the integers are written to.
+     * @exception IOException if writing to the channel fails.
+     */
+    static void writeInts(int[] values, WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] digits = new byte[11];
+        for (int value : values){
+            if (buffer.remaining() < digits.length + 1){
+                flush(buffer, out);
+            }
+            long number = value;
+            if (number < 0){
+                buffer.put((byte) '-');
+                number = -number;
+            }
+            int length = 0;
+            do {
+                digits[length++] = (byte) ('0' + number % 10);
+                number /= 10;
+            } while (number > 0);
+            while (length > 0){
+                buffer.put(digits[--length]);
+            }
+            buffer.put((byte) '\n');
+        }
+        flush(buffer, out);
+    }
+
+    /**
+     * The flush method writes everything in the buffer to the channel and empties the buffer.
+     * 
+     * @param buffer is the ByteBuffer that is written.
+     * @param out is the channel that the buffer is written to.
+     * @exception IOException if writing to the channel fails.
+     */
+    private static void flush(ByteBuffer buffer, WritableByteChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()){
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+}
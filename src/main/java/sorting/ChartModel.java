@@ -0,0 +1,48 @@
+package sorting;
+
+/**
+ * This is the ChartModel interface that draws the values the sort engine works on.
+ * The bar chart draws one bar for every value, and the pixel chart draws one column for every pixel, so it can show very long lists.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public interface ChartModel {
+
+    /**
+     * The setValues method shows new values, for example when a new list is generated.
+     * 
+     * @param values is the int array that the chart represents.
+     */
+    void setValues(int[] values);
+
+    /**
+     * The refresh method shows the values again after they were reordered without replaying every operation.
+     * 
+     * @param values is the int array that the chart represents.
+     */
+    void refresh(int[] values);
+
+    /**
+     * The set method shows the new value at the index.
+     * 
+     * @param index is an integer value which is the index of the value.
+     * @param value is an integer value which is the new value.
+     */
+    void set(int index, int value);
+
+    /**
+     * The swap method shows the values at the two indices swapped.
+     * 
+     * @param index1 is an integer value which is the first index.
+     * @param index2 is an integer value which is the second index.
+     */
+    void swap(int index1, int index2);
+
+    /**
+     * The showSortedPrefix method shows the values that an incremental algorithm has already sorted for good.
+     * 
+     * @param length is an integer value which is the length of the sorted prefix, or 0 to show none.
+     */
+    void showSortedPrefix(int length);
+}
@@ -0,0 +1,39 @@
+package sorting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This is the ChartUpdateEvent class that records an update of every bar of the bar chart in JDK Flight Recorder.
+ * Single bars changed by a swap or a write are not recorded, they are part of an AnimationBatchEvent.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+@Name("sorting.ChartUpdate")
+@Label("Chart Update")
+@Category({"Sorting", "Visualizer"})
+@Description("The bar chart created again or refreshed from the values")
+public class ChartUpdateEvent extends Event {
+
+    @Label("Bars")
+    private final int bars;
+
+    @Label("Rebuilt")
+    @Description("True if the bars were created again, false if the existing bars were refreshed")
+    private final boolean rebuilt;
+
+    /**
+     * The ChartUpdateEvent method is the default constructer of ChartUpdateEvent class.
+     * 
+     * @param barsIn is an integer value which is the number of bars.
+     * @param rebuiltIn is true if the bars were created again.
+     */
+    public ChartUpdateEvent(int barsIn, boolean rebuiltIn){
+        this.bars = barsIn;
+        this.rebuilt = rebuiltIn;
+    }
+}
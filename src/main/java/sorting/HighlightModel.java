@@ -0,0 +1,199 @@
+package sorting;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import javafx.collections.WeakMapChangeListener;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.util.Callback;
+
+/**
+ * This is the HighlightModel class that keeps which table cells are highlighted in the program, and why.
+ * The table uses one permanent cell factory bound to this model, 
+ * so a step only restyles the visible cells whose highlight changed instead of recreating every cell.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class HighlightModel {
+
+    /**
+     * This is the Role enum that tells why a cell is highlighted, and the style it is shown with.
+     */
+    public enum Role {
+        COMPARED("-fx-background-color: green;"),
+        SWAPPED("-fx-background-color: orange;"),
+        MERGED("-fx-background-color: lightblue;"),
+        RUN("-fx-background-color: khaki;"),
+        SORTED("-fx-background-color: palegreen;");
+
+        private final String style;
+
+        Role(String styleIn){
+            this.style = styleIn;
+        }
+
+        /**
+         * The getStyle method is the getter method for the style of highlighted cells.
+         * 
+         * @return style is the css style of the cell.
+         */
+        public String getStyle(){
+            return style;
+        }
+    }
+
+    private static final String NO_HIGHLIGHT = "-fx-background-color: transparent;";
+
+    private final ObservableMap<Integer, Role> roles = FXCollections.observableHashMap(); // only a few cells are highlighted at a time
+    private final IntegerProperty background = new SimpleIntegerProperty(); // changes every time the run or the prefix changes, so every cell restyles
+    private int runFrom; // the run shown behind the other highlights, from runFrom to runTo - 1
+    private int runTo;
+    private int sortedLength; // the sorted prefix shown behind the run, from 0 to sortedLength - 1
+
+    /**
+     * The highlight method replaces the highlighted cells with the cells at the indices.
+     * 
+     * @param role is the Role that the cells are highlighted with.
+     * @param indices are the integer values of the indices of the highlighted cells.
+     */
+    public void highlight(Role role, int... indices){
+        roles.keySet().removeIf(index -> !contains(indices, index));
+        for (int index : indices){
+            roles.put(index, role);
+        }
+    }
+
+    /**
+     * The showRun method shows a run found by an adaptive algorithm behind the other highlights, replacing the run shown before.
+     * 
+     * @param from is an integer value which is the first index of the run.
+     * @param to is an integer value which is the index after the last element of the run.
+     */
+    public void showRun(int from, int to){
+        runFrom = from;
+        runTo = to;
+        background.set(background.get() + 1);
+    }
+
+    /**
+     * The showSortedPrefix method shows the positions that an incremental algorithm has already sorted for good,
+     * behind the other highlights and the run.
+     * 
+     * @param length is an integer value which is the length of the sorted prefix.
+     */
+    public void showSortedPrefix(int length){
+        sortedLength = length;
+        background.set(background.get() + 1);
+    }
+
+    /**
+     * The clear method removes every highlight, the run and the sorted prefix.
+     */
+    public void clear(){
+        roles.clear();
+        if (runTo > runFrom){
+            showRun(0, 0);
+        }
+        if (sortedLength > 0){
+            showSortedPrefix(0);
+        }
+    }
+
+    /**
+     * The getRole method is the getter method for the highlight of the cell at the index.
+     * 
+     * @param index is an integer value which is the index of the cell.
+     * @return the Role of the cell, or null if it is not highlighted.
+     */
+    public Role getRole(int index){
+        Role role = roles.get(index);
+        if (role == null && index >= runFrom && index < runTo){
+            role = Role.RUN;
+        }
+        if (role == null && index < sortedLength){
+            role = Role.SORTED;
+        }
+        return role;
+    }
+
+    /**
+     * The cellFactory method creates the cell factory that displays the highlights of this model.
+     * Every cell listens to the model itself and restyles when the highlight of its index changes. 
+     * The listeners are weak, so the cells that the table throws away are not kept by the model.
+     * 
+     * @return the cell factory for a table column.
+     */
+    public <S, T> Callback<TableColumn<S, T>, TableCell<S, T>> cellFactory(){
+        return (tableColumn) -> new HighlightCell<>();
+    }
+
+    /**
+     * This is the HighlightCell class that shows a value of the table with the highlight of its index.
+     */
+    private class HighlightCell<S, T> extends TableCell<S, T> {
+
+        // kept in fields, because the model only holds them weakly
+        private final MapChangeListener<Integer, Role> roleListener = change -> {
+            if (change.getKey() == getIndex()){
+                restyle();
+            }
+        };
+        private final ChangeListener<Number> backgroundListener = (observable, oldValue, newValue) -> restyle();
+
+        HighlightCell(){
+            roles.addListener(new WeakMapChangeListener<>(roleListener));
+            background.addListener(new WeakChangeListener<>(backgroundListener));
+        }
+
+        @Override
+        protected void updateItem(T item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty){
+                this.setText("");
+            }else{
+                this.setText(item.toString());
+            }
+            restyle();
+        }
+
+        /**
+         * The restyle method shows the highlight of the index of the cell, or none if the cell is empty.
+         */
+        private void restyle(){
+            this.setStyle(isEmpty() ? NO_HIGHLIGHT : styleOf(getIndex()));
+        }
+    }
+
+    /**
+     * The styleOf method finds the style of the cell at the index.
+     * 
+     * @param index is an integer value which is the index of the cell.
+     * @return the css style of the cell.
+     */
+    private String styleOf(int index){
+        Role role = getRole(index);
+        return (role == null) ? NO_HIGHLIGHT : role.getStyle();
+    }
+
+    /**
+     * The contains method checks if the index is one of the indices.
+     * 
+     * @param indices is the int array that is searched.
+     * @param index is an integer value which is the index searched for.
+     * @return true if the index is found.
+     */
+    private static boolean contains(int[] indices, int index){
+        for (int i : indices){
+            if (i == index){
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,170 @@
+package sorting;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This is the IntArrayList class that holds the numbers displayed in the table view of the program.
+ * The numbers are stored in an int array, and a NumData row is only created when the table asks for an element,
+ * so the list needs four bytes per number instead of one property object per number.
+ * Swaps and range writes are announced with one change event each.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class IntArrayList extends ObservableListBase<NumData> {
+
+    private int[] values = new int[0];
+
+    /**
+     * The get method creates the row that displays the number at the index.
+     * 
+     * @param index is an integer value which is the index of the number.
+     * @return a NumData row containing the number.
+     */
+    @Override
+    public NumData get(int index){
+        return new NumData(getInt(index));
+    }
+
+    /**
+     * The size method is the getter method for the number of numbers in the list.
+     * 
+     * @return the length of the list.
+     */
+    @Override
+    public int size(){
+        return values.length;
+    }
+
+    /**
+     * The getInt method is the getter method for the number at the index, without creating a row.
+     * 
+     * @param index is an integer value which is the index of the number.
+     * @return the number at the index.
+     */
+    public int getInt(int index){
+        return values[index];
+    }
+
+    /**
+     * The set method replaces the number at the index with the number of the row.
+     * 
+     * @param index is an integer value which is the index of the number.
+     * @param element is the NumData row containing the new number.
+     * @return a NumData row containing the old number.
+     */
+    @Override
+    public NumData set(int index, NumData element){
+        return new NumData(setInt(index, element.getNum()));
+    }
+
+    /**
+     * The setInt method replaces the number at the index and fires one change event.
+     * 
+     * @param index is an integer value which is the index of the number.
+     * @param value is an integer value which is the new number.
+     * @return the old number.
+     */
+    public int setInt(int index, int value){
+        int old = values[index];
+        if (old != value){
+            values[index] = value;
+            beginChange();
+            nextSet(index, new NumData(old));
+            endChange();
+        }
+        return old;
+    }
+
+    /**
+     * The swap method swaps the numbers at the two indices and fires one change event.
+     * 
+     * @param index1 is an integer value which is the index of the first number.
+     * @param index2 is an integer value which is the index of the second number.
+     */
+    public void swap(int index1, int index2){
+        int temp = values[index1];
+        if (temp == values[index2]){
+            return;
+        }
+        values[index1] = values[index2];
+        values[index2] = temp;
+        beginChange();
+        nextSet(index1, new NumData(values[index2]));
+        nextSet(index2, new NumData(values[index1]));
+        endChange();
+    }
+
+    /**
+     * The setRange method copies a range of numbers into the list and fires one change event.
+     * 
+     * @param from is an integer value which is the first index of the list that is written.
+     * @param source is the int array that contains the new numbers.
+     * @param sourceFrom is an integer value which is the first index of the source that is copied.
+     * @param length is an integer value which is the number of numbers copied.
+     */
+    public void setRange(int from, int[] source, int sourceFrom, int length){
+        if (length == 0){
+            return;
+        }
+        int[] old = Arrays.copyOfRange(values, from, from + length);
+        System.arraycopy(source, sourceFrom, values, from, length);
+        beginChange();
+        nextReplace(from, from + length, rows(old));
+        endChange();
+    }
+
+    /**
+     * The setAll method replaces every number in the list with a copy of the source and fires one change event.
+     * 
+     * @param source is the int array that contains the new numbers.
+     */
+    public void setAll(int[] source){
+        int[] old = values;
+        values = source.clone();
+        beginChange();
+        nextReplace(0, values.length, rows(old));
+        endChange();
+    }
+
+    /**
+     * The clear method removes every number from the list.
+     */
+    @Override
+    public void clear(){
+        setAll(new int[0]);
+    }
+
+    /**
+     * The toIntArray method copies the numbers of the list into a new int array.
+     * 
+     * @return the int array of the numbers.
+     */
+    public int[] toIntArray(){
+        return values.clone();
+    }
+
+    /**
+     * The rows method wraps an int array in a read-only list of rows, used to report the removed numbers of a change.
+     * 
+     * @param numbers is the int array that is wrapped.
+     * @return the list of rows, each created when it is read.
+     */
+    private static List<NumData> rows(int[] numbers){
+        return new AbstractList<NumData>() {
+            @Override
+            public NumData get(int index){
+                return new NumData(numbers[index]);
+            }
+
+            @Override
+            public int size(){
+                return numbers.length;
+            }
+        };
+    }
+}
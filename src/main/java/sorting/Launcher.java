@@ -0,0 +1,24 @@
+package sorting;
+
+/**
+ * This is the Launcher class that is the entry point of the program.
+ * It does not extend Application, so the Java launcher does not start the JavaFX toolkit before main is called.
+ * This lets the batch sort run from the command line without a display, and start in milliseconds.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class Launcher {
+
+    /**
+     * The main method sorts the input with BatchSort if the first argument is --sort, and launches the App otherwise.
+     * 
+     * @param args are the command line arguments.
+     */
+    public static void main(String[] args) {
+        if (BatchSort.isBatchMode(args)){
+            System.exit(BatchSort.run(args));
+        }
+        App.main(args);
+    }
+}
@@ -0,0 +1,44 @@
+package sorting;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+/**
+ * This is the NumData class that creates the values in every table cell in table view in the program.
+ * Each NumData contains an integer that will be displayed in the cell.
+ * The rows are created by IntArrayList when the table asks for them, so they only hold a copy of the integer.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class NumData {
+    
+    private final int numValue;
+
+    /**
+     * The NumData method is the default constructer of NumData class.
+     * 
+     * @param numIn is the integer value displayed in the cell.
+     */
+    public NumData(int numIn){
+        this.numValue = numIn;
+    }
+
+    /**
+     * The getNum method is the getter method for the integer value.
+     * 
+     * @return numValue is the integer value that is contained.
+     */
+    public int getNum(){
+        return this.numValue;
+    }
+
+    /**
+     * The numValueProperty method creates a read-only property of the integer value for the table cell.
+     * 
+     * @return a ReadOnlyIntegerProperty containing the integer value.
+     */
+    public ReadOnlyIntegerProperty numValueProperty(){
+        return new ReadOnlyIntegerWrapper(this.numValue).getReadOnlyProperty();
+    }
+}
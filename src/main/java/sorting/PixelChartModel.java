@@ -0,0 +1,266 @@
+package sorting;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.util.Arrays;
+
+/**
+ * This is the PixelChartModel class that draws the values into an image with one column for every pixel, 
+ * so lists of millions of numbers can be shown, which would need millions of nodes in a bar chart.
+ * When there are more values than columns, every column shows the smallest, the mean and the largest value of its bucket in three shades.
+ * Swaps and writes only mark their columns as dirty, and the dirty columns are drawn again once per pulse, 
+ * reading the values from the array that the sort engine works on.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class PixelChartModel implements ChartModel {
+
+    private static final int BACKGROUND = 0xFFFFFFFF;
+    private static final int BELOW_MIN = 0xFF1F4E79; // dark blue up to the smallest value of a column
+    private static final int BELOW_MEAN = 0xFF4682B4; // steel blue up to the mean
+    private static final int BELOW_MAX = 0xFFB0C4DE; // light blue up to the largest value
+    private static final int SORTED_BELOW_MIN = 0xFF1E5631; // the same shades in green for the columns of the sorted prefix
+    private static final int SORTED_BELOW_MEAN = 0xFF2E8B57;
+    private static final int SORTED_BELOW_MAX = 0xFF98D8AA;
+
+    private final WritableImage image;
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+    private final boolean[] dirty;
+    private int dirtyFrom; // the first dirty column
+    private int dirtyTo = -1; // the last dirty column, smaller than dirtyFrom if there is none
+    private int[] values = new int[0];
+    private int max = 1;
+    private int sortedLength; // the columns whose values are all before this index are drawn in green
+    private boolean drawing;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        /**
+         * The handle method draws the dirty columns on every pulse.
+         * 
+         * @param now is the timestamp of the current pulse in nanoseconds.
+         */
+        @Override
+        public void handle(long now){
+            draw();
+        }
+    };
+
+    /**
+     * The PixelChartModel method is the default constructer of PixelChartModel class.
+     * 
+     * @param imageView is the ImageView that shows the chart.
+     * @param widthIn is a positive integer value which is the width of the chart in pixels.
+     * @param heightIn is a positive integer value which is the height of the chart in pixels.
+     */
+    public PixelChartModel(ImageView imageView, int widthIn, int heightIn){
+        this.width = widthIn;
+        this.height = heightIn;
+        this.image = new WritableImage(width, height);
+        this.pixels = new int[width * height];
+        this.dirty = new boolean[width];
+        this.dirtyFrom = width;
+        imageView.setImage(image);
+    }
+
+    /**
+     * The setValues method shows new values, scaling the columns to the largest value and drawing every column again.
+     * The chart keeps the array and reads the values from it when it draws.
+     * 
+     * @param valuesIn is the int array that the columns represent.
+     */
+    @Override
+    public void setValues(int[] valuesIn){
+        this.values = valuesIn;
+        int largest = 1;
+        for (int value : values){
+            largest = Math.max(largest, value);
+        }
+        this.max = largest;
+        this.sortedLength = 0;
+        markAll();
+    }
+
+    /**
+     * The refresh method draws every column again, because every value may have moved.
+     * 
+     * @param valuesIn is the int array that the columns represent.
+     */
+    @Override
+    public void refresh(int[] valuesIn){
+        setValues(valuesIn);
+    }
+
+    /**
+     * The set method marks the column of the index as dirty, or every column if the value is bigger than the largest value.
+     * 
+     * @param index is an integer value which is the index of the value.
+     * @param value is an integer value which is the new value.
+     */
+    @Override
+    public void set(int index, int value){
+        if (value > max){ // every column has to be scaled again
+            max = value;
+            markAll();
+        } else{
+            mark(index);
+        }
+    }
+
+    /**
+     * The swap method marks the columns of the two indices as dirty.
+     * 
+     * @param index1 is an integer value which is the first index.
+     * @param index2 is an integer value which is the second index.
+     */
+    @Override
+    public void swap(int index1, int index2){
+        mark(index1);
+        mark(index2);
+    }
+
+    /**
+     * The showSortedPrefix method draws the columns of the sorted prefix in green, 
+     * and only marks the columns between the old and the new length as dirty.
+     * 
+     * @param length is an integer value which is the length of the sorted prefix, or 0 to show none.
+     */
+    @Override
+    public void showSortedPrefix(int length){
+        length = Math.min(length, values.length);
+        if (length != sortedLength){
+            markRange(Math.min(sortedLength, length), Math.max(sortedLength, length));
+            sortedLength = length;
+        }
+    }
+
+    /**
+     * The draw method draws the dirty columns again and writes them into the image.
+     * It is called on every pulse while some columns are dirty.
+     */
+    public void draw(){
+        if (dirtyTo < dirtyFrom){
+            timer.stop();
+            drawing = false;
+            return;
+        }
+        ChartUpdateEvent event = new ChartUpdateEvent(dirtyTo - dirtyFrom + 1, false);
+        event.begin();
+        int n = values.length;
+        for (int column = dirtyFrom; column <= dirtyTo; column++){
+            if (!dirty[column]){
+                continue;
+            }
+            dirty[column] = false;
+            if (n == 0){
+                fillColumn(column, 0, 0, 0, false);
+                continue;
+            }
+            int from = (int) ((long) column * n / width); // the values of the column, at least one
+            int to = Math.max(from + 1, (int) ((long) (column + 1) * n / width));
+            int low = Integer.MAX_VALUE;
+            int high = Integer.MIN_VALUE;
+            long sum = 0;
+            for (int i = from; i < to; i++){
+                int value = values[i];
+                low = Math.min(low, value);
+                high = Math.max(high, value);
+                sum += value;
+            }
+            fillColumn(column, scale(low), scale((double) sum / (to - from)), scale(high), to <= sortedLength);
+        }
+        image.getPixelWriter().setPixels(dirtyFrom, 0, dirtyTo - dirtyFrom + 1, height, PixelFormat.getIntArgbInstance(), pixels, dirtyFrom, width);
+        dirtyFrom = width;
+        dirtyTo = -1;
+        event.commit();
+    }
+
+    /**
+     * The scale method computes the height in pixels of a value.
+     * 
+     * @param value is a double value which is the value.
+     * @return the height in pixels, between 0 and the height of the chart.
+     */
+    private int scale(double value){
+        return (int) Math.max(0, Math.min(height, Math.round(value * height / max)));
+    }
+
+    /**
+     * The fillColumn method colours the pixels of a column from the bottom up.
+     * 
+     * @param column is an integer value which is the column.
+     * @param low is an integer value which is the height of the smallest value.
+     * @param mean is an integer value which is the height of the mean.
+     * @param high is an integer value which is the height of the largest value.
+     * @param sorted is true if every value of the column is in the sorted prefix.
+     */
+    private void fillColumn(int column, int low, int mean, int high, boolean sorted){
+        int belowMin = sorted ? SORTED_BELOW_MIN : BELOW_MIN;
+        int belowMean = sorted ? SORTED_BELOW_MEAN : BELOW_MEAN;
+        int belowMax = sorted ? SORTED_BELOW_MAX : BELOW_MAX;
+        for (int y = 0; y < height; y++){
+            int fromBottom = height - y;
+            int colour = BACKGROUND;
+            if (fromBottom <= low){
+                colour = belowMin;
+            } else if (fromBottom <= mean){
+                colour = belowMean;
+            } else if (fromBottom <= high){
+                colour = belowMax;
+            }
+            pixels[y * width + column] = colour;
+        }
+    }
+
+    /**
+     * The mark method marks the columns that show the value at the index as dirty.
+     * 
+     * @param index is an integer value which is the index of the value.
+     */
+    private void mark(int index){
+        markRange(index, index + 1);
+    }
+
+    /**
+     * The markRange method marks the columns that show the values of the range [from, to) as dirty.
+     * 
+     * @param from is an integer value which is the first index of the range (inclusive).
+     * @param to is an integer value which is the last index of the range (exclusive), bigger than from.
+     */
+    private void markRange(int from, int to){
+        int n = values.length;
+        int first = (int) ((long) from * width / n);
+        int last = (int) Math.min(width - 1, ((long) to * width - 1) / n);
+        for (int column = first; column <= last; column++){
+            dirty[column] = true;
+        }
+        dirtyFrom = Math.min(dirtyFrom, first);
+        dirtyTo = Math.max(dirtyTo, last);
+        startDrawing();
+    }
+
+    /**
+     * The markAll method marks every column as dirty.
+     */
+    private void markAll(){
+        Arrays.fill(dirty, true);
+        dirtyFrom = 0;
+        dirtyTo = width - 1;
+        startDrawing();
+    }
+
+    /**
+     * The startDrawing method starts the timer that draws the dirty columns, if it is not running yet.
+     */
+    private void startDrawing(){
+        if (!drawing){
+            drawing = true;
+            timer.start();
+        }
+    }
+}
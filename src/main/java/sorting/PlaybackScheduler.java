@@ -0,0 +1,199 @@
+package sorting;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.LongConsumer;
+
+import engine.SortListener;
+import engine.SortStepper;
+
+/**
+ * This is the PlaybackScheduler class that animates a sorting algorithm in the program.
+ * On every pulse it pulls as many steps from the SortStepper as the rate allows, 
+ * so no key frames are built ahead of time and the memory used does not depend on the length of the list.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class PlaybackScheduler extends AnimationTimer {
+
+    public static final double DEFAULT_OPS_PER_SECOND = 1000.0 / 750; // one step every 750 milliseconds
+    public static final int DEFAULT_MAX_OPS_PER_FRAME = 10_000;
+
+    private double opsPerSecond = DEFAULT_OPS_PER_SECOND;
+    private int maxOpsPerFrame = DEFAULT_MAX_OPS_PER_FRAME;
+
+    private LongConsumer onPulse;
+    private SortStepper stepper;
+    private SortListener listener;
+    private boolean singlePass;
+    private Runnable onFinished;
+    private boolean running;
+    private boolean paused;
+    private long lastPulse;
+    private double budget; // steps owed since the last pulse, including the fraction of a step
+
+    /**
+     * The play method starts animating the stepper, cancelling any animation that is still running.
+     * The first step is taken on the first pulse.
+     * 
+     * @param stepperIn is the SortStepper that produces the steps.
+     * @param listenerIn is the SortListener that displays the operations of every step.
+     * @param singlePassIn is true if the animation should stop at the end of the current pass.
+     */
+    public void play(SortStepper stepperIn, SortListener listenerIn, boolean singlePassIn){
+        play(stepperIn, listenerIn, singlePassIn, null);
+    }
+
+    /**
+     * The play method starts animating the stepper, and calls back when the animation finishes without being cancelled.
+     * 
+     * @param stepperIn is the SortStepper that produces the steps.
+     * @param listenerIn is the SortListener that displays the operations of every step.
+     * @param singlePassIn is true if the animation should stop at the end of the current pass.
+     * @param onFinishedIn is the callback run after the last step, or null for no callback.
+     */
+    public void play(SortStepper stepperIn, SortListener listenerIn, boolean singlePassIn, Runnable onFinishedIn){
+        cancel();
+        this.stepper = stepperIn;
+        this.listener = listenerIn;
+        this.singlePass = singlePassIn;
+        this.onFinished = onFinishedIn;
+        this.budget = 1;
+        this.lastPulse = 0;
+        this.running = true;
+        this.paused = false;
+        start();
+    }
+
+    /**
+     * The pause method pauses the animation, keeping the position of the stepper.
+     */
+    public void pause(){
+        if (running && !paused){
+            paused = true;
+            stop();
+        }
+    }
+
+    /**
+     * The resume method continues a paused animation.
+     */
+    public void resume(){
+        if (running && paused){
+            paused = false;
+            lastPulse = 0;
+            start();
+        }
+    }
+
+    /**
+     * The cancel method stops the animation and forgets the stepper.
+     */
+    public void cancel(){
+        stop();
+        running = false;
+        paused = false;
+        stepper = null;
+        listener = null;
+        onFinished = null;
+    }
+
+    /**
+     * The handle method is called on every pulse and runs the steps that are due since the last pulse.
+     * 
+     * @param now is the timestamp of the current pulse in nanoseconds.
+     */
+    @Override
+    public void handle(long now){
+        if (lastPulse != 0){
+            budget += (now - lastPulse) * opsPerSecond / 1_000_000_000.0;
+        }
+        lastPulse = now;
+
+        int ops = (int) Math.min(budget, maxOpsPerFrame);
+        AnimationBatchEvent event = new AnimationBatchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean finished = false;
+        int steps = 0;
+        for (; steps < ops && !finished && stepper.isReady(); steps++){ // a stepper that is not ready is tried again on the next pulse
+            finished = stepper.isDone() || (stepper.step(listener) && singlePass);
+        }
+        finished = finished || stepper.isDone();
+        budget = Math.min(budget - steps, maxOpsPerFrame); // do not pile up steps the frames could not keep up with
+        if (onPulse != null){
+            onPulse.accept(System.nanoTime() - start);
+        }
+        event.steps = steps;
+        event.finished = finished;
+        event.commit();
+        if (finished){
+            Runnable done = onFinished;
+            cancel();
+            if (done != null){
+                done.run();
+            }
+        }
+    }
+
+    /**
+     * The setOnPulse method sets the callback that is called after the steps of every pulse, for example to show live figures.
+     * 
+     * @param onPulseIn is the callback receiving the nanoseconds spent stepping on the pulse, or null for no callback.
+     */
+    public void setOnPulse(LongConsumer onPulseIn){
+        this.onPulse = onPulseIn;
+    }
+
+    /**
+     * The isRunning method checks if an animation is running or paused.
+     * 
+     * @return true if an animation has been started and not finished or cancelled.
+     */
+    public boolean isRunning(){
+        return running;
+    }
+
+    /**
+     * The isPaused method checks if the animation is paused.
+     * 
+     * @return true if the animation is paused.
+     */
+    public boolean isPaused(){
+        return paused;
+    }
+
+    /**
+     * The setOpsPerSecond method sets how many steps are run every second.
+     * 
+     * @param opsPerSecondIn is a positive double value which is the number of steps per second.
+     */
+    public void setOpsPerSecond(double opsPerSecondIn){
+        if (!(opsPerSecondIn > 0)){
+            throw new IllegalArgumentException("opsPerSecond must be positive: " + opsPerSecondIn);
+        }
+        this.opsPerSecond = opsPerSecondIn;
+    }
+
+    /**
+     * The getOpsPerSecond method is the getter method for the number of steps run every second.
+     * 
+     * @return opsPerSecond is the number of steps per second.
+     */
+    public double getOpsPerSecond(){
+        return opsPerSecond;
+    }
+
+    /**
+     * The setMaxOpsPerFrame method sets the most steps that are run on a single pulse.
+     * 
+     * @param maxOpsPerFrameIn is a positive integer value which is the number of steps.
+     */
+    public void setMaxOpsPerFrame(int maxOpsPerFrameIn){
+        if (maxOpsPerFrameIn <= 0){
+            throw new IllegalArgumentException("maxOpsPerFrame must be positive: " + maxOpsPerFrameIn);
+        }
+        this.maxOpsPerFrame = maxOpsPerFrameIn;
+    }
+}
@@ -1,3 +1,5 @@
+package sorting;
+
 import java.io.IOException;
 import javafx.fxml.FXML;
 
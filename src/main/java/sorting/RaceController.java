@@ -0,0 +1,271 @@
+package sorting;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+
+import engine.SortAlgorithm;
+import engine.SortAlgorithms;
+import engine.SortListener;
+import engine.SortStepper;
+
+/**
+ * This is the RaceController class that controls the race scene, 
+ * where the chosen sorting algorithms sort the same list side by side.
+ * Every algorithm runs on its own worker thread, and the lanes are replayed by one playback scheduler, 
+ * which gives every lane one operation per race step, so the lane that needs fewer operations finishes first.
+ * One more worker thread times the algorithms at full speed one after another, so the timed sorts do not compete with each other.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class RaceController implements SceneController {
+
+    private static final double LANE_WIDTH = 150;
+    private static final double LANE_HEIGHT = 100;
+    private static final double DEFAULT_STEPS_PER_SECOND = 500;
+
+    @FXML private HBox algorithmBox;
+    @FXML private HBox laneBox;
+    @FXML private TextField speedTextField;
+    @FXML private Label statusLabel;
+    @FXML private TableView<RaceLane> resultTable;
+    @FXML private TableColumn<RaceLane, String> nameCol;
+    @FXML private TableColumn<RaceLane, Long> finishedCol;
+    @FXML private TableColumn<RaceLane, Long> comparisonsCol;
+    @FXML private TableColumn<RaceLane, Long> swapsCol;
+    @FXML private TableColumn<RaceLane, Long> writesCol;
+    @FXML private TableColumn<RaceLane, Long> auxiliaryCol;
+    @FXML private TableColumn<RaceLane, String> timeCol;
+
+    private final List<CheckBox> algorithmChoices = new ArrayList<>();
+    private final List<SortAlgorithm> algorithms = new ArrayList<>();
+    private final List<RaceLane> lanes = new ArrayList<>();
+    private final PlaybackScheduler scheduler = new PlaybackScheduler();
+    private Lockstep race; // the running race, or null
+    private final ExecutorService timer = Executors.newSingleThreadExecutor(runnable -> { // times the lanes of every race, one after another
+        Thread thread = new Thread(runnable, "race-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> timing; // the timing of the running race, or null
+    private int[] input;
+
+    /**
+     * This is the Lockstep class that moves every lane of the race by one operation per step.
+     */
+    private class Lockstep implements SortStepper {
+
+        private long raceStep;
+
+        @Override
+        public boolean isDone(){
+            for (RaceLane lane : lanes){
+                if (!lane.isDone()){
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean step(SortListener listener){
+            raceStep++;
+            for (RaceLane lane : lanes){
+                lane.step(raceStep);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The startRace method starts a new race of the chosen algorithms on the input.
+     */
+    @FXML
+    private void startRace(){
+        cancelRace();
+        laneBox.getChildren().clear();
+        for (int i = 0; i < algorithms.size(); i++){
+            if (algorithmChoices.get(i).isSelected()){
+                RaceLane lane = new RaceLane(algorithms.get(i), input, LANE_WIDTH, LANE_HEIGHT);
+                lanes.add(lane);
+                Label name = new Label(lane.getName());
+                name.setFont(new Font("Times New Roman", 13));
+                laneBox.getChildren().add(new VBox(5, name, lane.getCanvas()));
+                lane.draw();
+            }
+        }
+        if (lanes.isEmpty()){
+            statusLabel.setText("Choose at least one sorting algorithm!");
+            return;
+        }
+        resultTable.getItems().setAll(lanes);
+        statusLabel.setText(String.format("Racing %d algorithms on %d numbers...", lanes.size(), input.length));
+        race = new Lockstep();
+        scheduler.play(race, null, false);
+        startTimer();
+    }
+
+    /**
+     * The startTimer method gives the timer thread the lanes of the race, to measure how long every lane takes at full speed, 
+     * one lane after another. The timing of a cancelled race stops before its next lane, 
+     * and the timing of a new race waits until then, so only one timed sort runs at a time.
+     */
+    private void startTimer(){
+        List<RaceLane> timed = new ArrayList<>(lanes);
+        timing = timer.submit(() -> {
+            for (RaceLane lane : timed){
+                if (Thread.currentThread().isInterrupted()){ // the race was cancelled
+                    return;
+                }
+                try {
+                    lane.measure();
+                }
+                catch (RuntimeException | Error e){
+                    // the replay of the lane shows the failure, the next lanes are still timed
+                }
+            }
+        });
+    }
+
+    /**
+     * The cancelRace method stops the race, the worker threads of every lane, and the timing of the lanes.
+     * A sort that is being timed runs to its end without a listener, but no lane after it is timed.
+     */
+    @FXML
+    private void cancelRace(){
+        scheduler.cancel();
+        race = null;
+        for (RaceLane lane : lanes){
+            lane.cancel();
+        }
+        lanes.clear();
+        if (timing != null){
+            timing.cancel(true); // interrupts the timer, which checks it between lanes
+            timing = null;
+        }
+    }
+
+    /**
+     * The showPulse method redraws the lanes and the table after the steps of a pulse, and shows the result when the race is over.
+     */
+    private void showPulse(){
+        for (RaceLane lane : lanes){
+            lane.draw();
+        }
+        resultTable.refresh();
+        if (race != null && race.isDone()){
+            race = null;
+            List<RaceLane> results = resultTable.getItems();
+            results.sort(Comparator.comparing((RaceLane lane) -> lane.getFailure() != null) // the lanes that failed come last
+                    .thenComparingLong(RaceLane::getFinishedAt));
+            RaceLane first = results.get(0);
+            if (first.getFailure() != null){
+                statusLabel.setText("Every algorithm failed: " + first.getFailure());
+            } else{
+                StringBuilder status = new StringBuilder(lanes.size() == 1 ? "Finished!" : first.getName() + " wins!");
+                for (RaceLane lane : results){
+                    if (lane.getFailure() != null){
+                        status.append(' ').append(lane.getName()).append(" failed.");
+                    }
+                }
+                statusLabel.setText(status.toString());
+            }
+        }
+    }
+
+    /**
+     * The setSpeed method takes in the user input of race steps per second.
+     */
+    @FXML
+    private void setSpeed(){
+        try {
+            double speed = Double.parseDouble(speedTextField.getText());
+            if (speed <= 0 || Double.isNaN(speed) || Double.isInfinite(speed)){ // if the input is not a positive number
+                speedTextField.setText("");
+                speedTextField.setPromptText("You have to input a positive number!");
+            } else{ // valid input
+                scheduler.setOpsPerSecond(speed);
+            }
+        }
+        catch (NumberFormatException e){ // if the input is not a number
+            speedTextField.setText("");
+            speedTextField.setPromptText("You have to input a number!");
+        }
+    }
+
+    /**
+     * The switchToSecondary method stops the race and switches the scene back to secondary.
+     * 
+     * @exception IOException if the stream is corrupted or errors occurred during reading the data (connecting to the fxml files).
+     */
+    @FXML
+    private void switchToSecondary() throws IOException {
+        cancelRace();
+        App.setRoot("secondary");
+    }
+
+    /**
+     * The onShow method is called every time the race scene is shown.
+     * It takes the list passed from the secondary scene, or a random list of 100 numbers if there is none, 
+     * and clears the lanes of the last race.
+     */
+    @Override
+    public void onShow(){
+        cancelRace();
+        laneBox.getChildren().clear();
+        resultTable.getItems().clear();
+        input = App.getRaceValues();
+        if (input == null || input.length == 0){
+            Random random = new Random();
+            input = new int[100];
+            for (int i = 0; i < input.length; i++){
+                input[i] = random.nextInt(100);
+            }
+        }
+        statusLabel.setText(String.format("%d numbers are ready to race.", input.length));
+    }
+
+    /**
+     * The initialize method is called when the scene is first built.
+     * It adds a check box for every sorting algorithm, and sets up the result table.
+     */
+    @FXML
+    private void initialize(){
+        for (SortAlgorithm algorithm : SortAlgorithms.all()){
+            CheckBox choice = new CheckBox(algorithm.getName());
+            choice.setMnemonicParsing(false);
+            choice.setSelected(true);
+            choice.setFont(new Font("Times New Roman", 13));
+            algorithms.add(algorithm);
+            algorithmChoices.add(choice);
+            algorithmBox.getChildren().add(choice);
+        }
+        SecondaryController.showPrompt(speedTextField);
+        nameCol.setCellValueFactory(new PropertyValueFactory<RaceLane, String>("name"));
+        finishedCol.setCellValueFactory(new PropertyValueFactory<RaceLane, Long>("finishedAt"));
+        comparisonsCol.setCellValueFactory(new PropertyValueFactory<RaceLane, Long>("comparisons"));
+        swapsCol.setCellValueFactory(new PropertyValueFactory<RaceLane, Long>("swaps"));
+        writesCol.setCellValueFactory(new PropertyValueFactory<RaceLane, Long>("writes"));
+        auxiliaryCol.setCellValueFactory(new PropertyValueFactory<RaceLane, Long>("auxiliaryBytes"));
+        timeCol.setCellValueFactory(new PropertyValueFactory<RaceLane, String>("time"));
+        scheduler.setOpsPerSecond(DEFAULT_STEPS_PER_SECOND);
+        scheduler.setOnPulse(nanos -> showPulse());
+    }
+}
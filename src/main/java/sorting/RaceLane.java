@@ -0,0 +1,237 @@
+package sorting;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import engine.OperationCounter;
+import engine.OperationQueue;
+import engine.SortAlgorithm;
+import engine.SortListener;
+import engine.SortStepper;
+
+/**
+ * This is the RaceLane class that runs one sorting algorithm of a race.
+ * The algorithm sorts its own copy of the input on a worker thread, and the operations are replayed on a small canvas 
+ * at the pace of the race. The race controller measures how long the algorithm takes at full speed on another copy.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class RaceLane implements SortListener {
+
+    private final SortAlgorithm algorithm;
+    private final int[] input;
+    private final int[] values;
+    private final int max;
+    private final Canvas canvas;
+    private final OperationQueue queue;
+    private final SortStepper replay;
+    private final OperationCounter counter = new OperationCounter();
+    private volatile long nanos = -1; // the full-speed time, -1 until it is measured
+    private long finishedAt = -1; // the race step on which the lane finished, -1 while it is running
+    private Throwable failure; // the exception that stopped the worker, or null
+    private boolean dirty = true;
+
+    /**
+     * The RaceLane method is the default constructer of RaceLane class. It starts the worker thread.
+     * 
+     * @param algorithmIn is the SortAlgorithm of the lane.
+     * @param inputIn is the int array that every lane starts with, which is copied and not changed.
+     * @param width is a double value which is the width of the canvas.
+     * @param height is a double value which is the height of the canvas.
+     */
+    public RaceLane(SortAlgorithm algorithmIn, int[] inputIn, double width, double height){
+        this.algorithm = algorithmIn;
+        this.input = inputIn;
+        this.values = input.clone();
+        int largest = 1;
+        for (int value : values){
+            largest = Math.max(largest, value);
+        }
+        this.max = largest;
+        this.canvas = new Canvas(width, height);
+        this.queue = OperationQueue.start(algorithm, input.clone(), OperationQueue.DEFAULT_CAPACITY);
+        this.replay = queue.replay(values);
+    }
+
+    /**
+     * The measure method sorts another copy of the input with the algorithm on the calling thread, 
+     * without a listener so the algorithm runs at full speed, and keeps how long it took.
+     */
+    public void measure(){
+        int[] timed = input.clone();
+        long start = System.nanoTime();
+        algorithm.sort(timed);
+        nanos = System.nanoTime() - start;
+    }
+
+    /**
+     * The step method replays the next operation of the lane, if the worker has published it.
+     * 
+     * @param raceStep is a long value which is the current step of the race.
+     */
+    public void step(long raceStep){
+        if (finishedAt >= 0){
+            return;
+        }
+        if (replay.isDone()){
+            finishedAt = raceStep;
+            failure = queue.getFailure(); // a worker that failed finishes early with a list that is only partly sorted
+            dirty = true; // the bars change colour
+        } else if (replay.isReady()){
+            replay.step(this);
+        }
+    }
+
+    /**
+     * The isDone method checks if every operation of the lane has been replayed.
+     * 
+     * @return true if the lane has finished, and the step on which it finished is known.
+     */
+    public boolean isDone(){
+        return finishedAt >= 0;
+    }
+
+    /**
+     * The cancel method stops the worker thread of the lane.
+     */
+    public void cancel(){
+        queue.cancel();
+    }
+
+    /**
+     * The draw method draws the values as bars on the canvas, if they changed since the last time.
+     * When there are more values than pixels, every pixel column shows the largest value that falls into it.
+     */
+    public void draw(){
+        if (!dirty){
+            return;
+        }
+        dirty = false;
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        graphics.clearRect(0, 0, width, height);
+        graphics.setFill(failure != null ? Color.FIREBRICK : finishedAt >= 0 ? Color.SEAGREEN : Color.STEELBLUE);
+        int columns = (int) Math.min(values.length, width);
+        double columnWidth = width / Math.max(1, columns);
+        for (int column = 0; column < columns; column++){
+            int from = (int) ((long) column * values.length / columns);
+            int to = (int) ((long) (column + 1) * values.length / columns);
+            int value = 0;
+            for (int i = from; i < to; i++){
+                value = Math.max(value, values[i]);
+            }
+            double barHeight = height * value / max;
+            graphics.fillRect(column * columnWidth, height - barHeight, Math.max(1, columnWidth - 1), barHeight);
+        }
+    }
+
+    @Override
+    public void onCompare(int index1, int index2){
+        counter.onCompare(index1, index2);
+    }
+
+    @Override
+    public void onSwap(int index1, int index2){
+        counter.onSwap(index1, index2);
+        dirty = true;
+    }
+
+    @Override
+    public void onWrite(int index, int value){
+        counter.onWrite(index, value);
+        dirty = true;
+    }
+
+    @Override
+    public void onAllocate(long bytes){
+        counter.onAllocate(bytes);
+    }
+
+    /**
+     * The getCanvas method is the getter method for the canvas of the lane.
+     * 
+     * @return canvas is the Canvas that shows the values.
+     */
+    public Canvas getCanvas(){
+        return canvas;
+    }
+
+    /**
+     * The getName method is the getter method for the name of the algorithm.
+     * 
+     * @return the name of the algorithm.
+     */
+    public String getName(){
+        return algorithm.getName();
+    }
+
+    /**
+     * The getComparisons method is the getter method for the number of comparisons replayed.
+     * 
+     * @return the number of comparisons.
+     */
+    public long getComparisons(){
+        return counter.getComparisons();
+    }
+
+    /**
+     * The getSwaps method is the getter method for the number of swaps replayed.
+     * 
+     * @return the number of swaps.
+     */
+    public long getSwaps(){
+        return counter.getSwaps();
+    }
+
+    /**
+     * The getWrites method is the getter method for the number of writes replayed.
+     * 
+     * @return the number of writes.
+     */
+    public long getWrites(){
+        return counter.getWrites();
+    }
+
+    /**
+     * The getAuxiliaryBytes method is the getter method for the bytes of extra memory the algorithm allocated.
+     * 
+     * @return the number of bytes.
+     */
+    public long getAuxiliaryBytes(){
+        return counter.getAuxiliaryBytes();
+    }
+
+    /**
+     * The getFinishedAt method is the getter method for the race step on which the lane finished.
+     * 
+     * @return finishedAt is the step, or -1 while the lane is running.
+     */
+    public long getFinishedAt(){
+        return finishedAt;
+    }
+
+    /**
+     * The getFailure method is the getter method for the exception that stopped the worker of the lane.
+     * 
+     * @return failure is the exception, or null if the algorithm did not fail.
+     */
+    public Throwable getFailure(){
+        return failure;
+    }
+
+    /**
+     * The getTime method is the getter method for how long the algorithm takes at full speed.
+     * 
+     * @return the time in milliseconds as text, "measuring" until it is measured, or the failure if the algorithm failed.
+     */
+    public String getTime(){
+        if (failure != null){
+            return "failed: " + failure;
+        }
+        long measured = nanos;
+        return measured < 0 ? "measuring" : String.format("%.3f ms", measured / 1e6);
+    }
+}
@@ -0,0 +1,15 @@
+package sorting;
+
+/**
+ * This is the SceneController interface for controllers that need to know when their cached scene is shown again.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public interface SceneController {
+
+    /**
+     * The onShow method is called every time the scene becomes the root of the window, after it was built or taken from the cache.
+     */
+    void onShow();
+}
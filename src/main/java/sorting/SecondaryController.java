@@ -0,0 +1,908 @@
+package sorting;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.fxml.FXML;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.MenuButton;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.Slider;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.image.ImageView;
+
+import java.util.Random;
+
+import engine.Distribution;
+import engine.InputGenerator;
+import engine.OperationCounter;
+import engine.OperationQueue;
+import engine.SortAlgorithm;
+import engine.SortAlgorithms;
+import engine.SortCapability;
+import engine.SortListener;
+import engine.SortRunEvent;
+import engine.SortStepper;
+import engine.TopK;
+import engine.TracePlayer;
+import engine.TraceRecorder;
+
+/**
+ * This is the SecondaryController class that controls the secondary scene.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class SecondaryController {
+
+    @FXML private TableView<NumData> tableView;
+    @FXML private TableColumn<NumData, Number> numCol;
+    @FXML private TextField numInTextField;
+    @FXML private TextField speedTextField;
+    @FXML private ChoiceBox<Distribution> distributionChoiceBox;
+    @FXML private TextField minTextField;
+    @FXML private TextField maxTextField;
+    @FXML private TextField seedTextField;
+    @FXML private Button pauseButton;
+    @FXML private Label statusLabel;
+    @FXML private Label metricsLabel;
+    @FXML private CheckBox metricsCheckBox;
+    @FXML private Button passButton;
+    @FXML private Button stepButton;
+    @FXML private MenuButton chooseSortButton;
+    @FXML private BarChart<String, Number> barChart;
+    @FXML private CategoryAxis xAxis;
+    @FXML private NumberAxis yAxis;
+    @FXML private ImageView pixelChart;
+    @FXML private Slider traceSlider;
+    @FXML private Label traceLabel;
+    @FXML private Button stepBackButton;
+    @FXML private Button stepForwardButton;
+    @FXML private TextField topKTextField;
+    @FXML private CheckBox largestCheckBox;
+    @FXML private Button streamButton;
+
+    private IntArrayList list = new IntArrayList();
+    private int[] values = new int[0]; // the values that the sort engine works on, in the same order as list
+
+    private static final int BAR_CHART_LIMIT = 2000; // longer lists are drawn on the pixel chart
+    private static final int PIXEL_CHART_WIDTH = 360;
+    private static final int PIXEL_CHART_HEIGHT = 260;
+
+    private ChartModel chartModel; // the bar chart or the pixel chart, depending on the length of the list
+    private BarChartModel barChartModel;
+    private PixelChartModel pixelChartModel;
+    private final HighlightModel highlights = new HighlightModel();
+
+    private final SortListener listUpdater = new SortListener() { // replays the operations of the sort engine on the list and the chart
+        @Override
+        public void onCompare(int index1, int index2){
+        }
+
+        @Override
+        public void onSwap(int index1, int index2){
+            list.swap(index1, index2);
+            chartModel.swap(index1, index2);
+        }
+
+        @Override
+        public void onWrite(int index, int value){
+            list.setInt(index, value);
+            chartModel.set(index, value);
+        }
+    };
+    private final SortListener stepUpdater = new SortListener() { // like listUpdater, but also highlights the cells of every operation
+        @Override
+        public void onCompare(int index1, int index2){
+            if (metricsEnabled){
+                metrics.onCompare(index1, index2);
+            }
+            updateBackground(HighlightModel.Role.COMPARED, index1, index2);
+        }
+
+        @Override
+        public void onSwap(int index1, int index2){
+            if (metricsEnabled){
+                metrics.onSwap(index1, index2);
+            }
+            listUpdater.onSwap(index1, index2);
+            updateBackground(HighlightModel.Role.SWAPPED, index1, index2);
+        }
+
+        @Override
+        public void onWrite(int index, int value){
+            if (metricsEnabled){
+                metrics.onWrite(index, value);
+            }
+            listUpdater.onWrite(index, value);
+            highlights.highlight(HighlightModel.Role.MERGED, index);
+        }
+
+        @Override
+        public void onAllocate(long bytes){
+            if (metricsEnabled){
+                metrics.onAllocate(bytes);
+            }
+        }
+
+        @Override
+        public void onRun(int from, int to){
+            highlights.showRun(from, to);
+            statusLabel.setText(String.format("Run from %d to %d", from, to - 1));
+        }
+
+        @Override
+        public void onSortedPrefix(int length){
+            highlights.showSortedPrefix(length);
+            chartModel.showSortedPrefix(length);
+            statusLabel.setText(String.format("First %d positions sorted", length));
+        }
+    };
+
+    private final SortListener traceHighlighter = new SortListener() { // highlights the last operation of the trace after a seek
+        @Override
+        public void onCompare(int index1, int index2){
+            updateBackground(HighlightModel.Role.COMPARED, index1, index2);
+        }
+
+        @Override
+        public void onSwap(int index1, int index2){
+            updateBackground(HighlightModel.Role.SWAPPED, index1, index2);
+        }
+
+        @Override
+        public void onWrite(int index, int value){
+            highlights.highlight(HighlightModel.Role.MERGED, index);
+        }
+
+        @Override
+        public void onRun(int from, int to){
+            highlights.showRun(from, to);
+        }
+
+        @Override
+        public void onSortedPrefix(int length){
+            highlights.showSortedPrefix(length);
+            chartModel.showSortedPrefix(length);
+        }
+    };
+
+    private final OperationCounter metrics = new OperationCounter(); // the figures of the current run
+    private boolean metricsEnabled;
+
+    private final PlaybackScheduler scheduler = new PlaybackScheduler();
+    private int runId; // changes every time the running sort is cancelled, so late background results are dropped
+    private SortStepper stepper;
+    private OperationQueue producer; // the queue of the sort animated from a worker thread, or null
+    private TracePlayer tracePlayer; // null until a trace is recorded
+    private Path tracePath;
+
+    private static final int STREAM_BATCH = 10000; // the values streamed on every pulse
+
+    private TopK topK; // the top k of the values streamed, or null if no stream is running
+    private InputGenerator streamGenerator;
+    private Random streamSeeds; // the seeds of the batches after the first one
+    private final AnimationTimer streamer = new AnimationTimer() {
+        @Override
+        public void handle(long now){
+            streamBatch();
+        }
+    };
+
+    private int numOfNum = 0;
+    private SortAlgorithm algorithm; // null until the user chooses a sorting algorithm
+
+    Random random = new Random();
+
+    /**
+     * The numIn method takes in the user input of number of numbers wanted to display.
+     * The method process the input to check if it's a valid natural number, 
+     * then generate a list of integer according to the valid input.
+     */
+    @FXML
+    private void numIn(){
+        int numIn;
+        if (algorithm==null){ // if the user inputs the number before chosen a sorting algorithm
+            numInTextField.setText("");
+            numInTextField.setPromptText("Choose the sorting algorithm!");
+        } else{
+            try {
+                numIn = Integer.parseInt(numInTextField.getText());
+                if (numIn<=0){ // if the input is not a natural number
+                    numInTextField.setText("");
+                    numInTextField.setPromptText("You have to input a natural number!");
+                } else{ // valid input
+                    numOfNum = numIn;
+                    cancelAnimation();
+                    generateList(); // generate new list
+                }
+            }
+            catch (NumberFormatException e){ // if the input is not an integer
+                numInTextField.setText("");
+                numInTextField.setPromptText("You have to input an integer!");
+            }
+        }
+    }
+
+    /**
+     * The generateList method generates a list of numbers according to the inputted number, 
+     * with the chosen distribution, range and seed. The numbers are created in parallel and shown with one change event.
+     * The method then reset the background of the cells and update the bar chart.
+     */
+    private void generateList(){
+        InputGenerator generator = readGenerator();
+        if (generator == null){ // the range or the seed is not valid
+            return;
+        }
+        closeTrace(); // the trace belongs to the old list
+        values = generator.generate(numOfNum);
+        list.setAll(values); // one change event for the whole list
+        resetStepper();
+        resetBackground();
+        selectChart();
+        chartModel.setValues(values);
+    }
+
+    /**
+     * The readGenerator method reads the user input of the distribution, range and seed of the list.
+     * An empty range is 0 to 99, and an empty seed is chosen at random.
+     * 
+     * @return the InputGenerator for the input, or null if the input is not valid.
+     */
+    private InputGenerator readGenerator(){
+        int min;
+        int max;
+        long seed;
+        try {
+            min = minTextField.getText().isBlank() ? 0 : Integer.parseInt(minTextField.getText().trim());
+            max = maxTextField.getText().isBlank() ? 99 : Integer.parseInt(maxTextField.getText().trim());
+        }
+        catch (NumberFormatException e){ // if the range is not an integer
+            minTextField.setText("");
+            maxTextField.setText("");
+            minTextField.setPromptText("You have to input integers!");
+            return null;
+        }
+        if (min < 0 || max < min){ // the table and the chart show natural numbers
+            minTextField.setText("");
+            maxTextField.setText("");
+            minTextField.setPromptText("Smallest >= 0 and <= largest!");
+            return null;
+        }
+        try {
+            seed = seedTextField.getText().isBlank() ? random.nextLong() : Long.parseLong(seedTextField.getText().trim());
+        }
+        catch (NumberFormatException e){ // if the seed is not an integer
+            seedTextField.setText("");
+            seedTextField.setPromptText("You have to input an integer!");
+            return null;
+        }
+        InputGenerator generator = new InputGenerator(distributionChoiceBox.getValue());
+        generator.setRange(min, max);
+        generator.setSeed(seed);
+        return generator;
+    }
+
+    /**
+     * The populateTable method populates the table cell based on the list that is generated.
+     */
+    private void populateTable(){
+        // this is another way of setting cell value factory for table cells
+        // numCol.setCellValueFactory(cellData -> cellData.getValue().numValueProperty()); 
+        numCol.setCellValueFactory(new PropertyValueFactory<NumData, Number>("numValue"));
+        numCol.setCellFactory(highlights.cellFactory()); // installed once, the cells restyle themselves when the highlights change
+        tableView.setItems(list);
+    }
+
+    /**
+     * The populateAlgorithms method fills the sorting algorithm menu with every algorithm discovered by the sort engine.
+     */
+    private void populateAlgorithms(){
+        for (SortAlgorithm sortAlgorithm : SortAlgorithms.all()){
+            MenuItem item = new MenuItem(sortAlgorithm.getName());
+            item.setMnemonicParsing(false);
+            item.setOnAction(event -> setAlgorithm(sortAlgorithm));
+            chooseSortButton.getItems().add(item);
+        }
+    }
+
+    /**
+     * The setAlgorithm method sets the sorting algorithm.
+     * The step and pass buttons are only shown for algorithms that can run step by step.
+     * 
+     * @param algorithmIn is the SortAlgorithm chosen by the user.
+     */
+    private void setAlgorithm(SortAlgorithm algorithmIn){
+        algorithm = algorithmIn;
+        cancelAnimation();
+        closeTrace();
+        resetStepper();
+        chooseSortButton.setText(algorithm.getName());
+        boolean steppable = algorithm.hasCapability(SortCapability.STEPPABLE);
+        stepButton.setVisible(steppable);
+        passButton.setVisible(steppable);
+    }
+
+    /**
+     * The sortAll method practices the sorting algorithm all at once.
+     * Algorithms that can run step by step are animated with the playback scheduler. 
+     * The others sort a copy of the values on a worker thread, which publishes its operations through a bounded queue, 
+     * and the playback scheduler replays them at the chosen speed. The worker waits while the queue is full.
+     */
+    @FXML
+    private void sortAll(){
+        if (stepper != null){
+            scheduler.play(stepper, stepUpdater, false);
+        } else if (algorithm != null){
+            cancelAnimation();
+            OperationQueue queue = OperationQueue.start(algorithm, values.clone(), OperationQueue.DEFAULT_CAPACITY);
+            producer = queue;
+            scheduler.play(queue.replay(values), stepUpdater, false, () -> showFailure(queue));
+        }
+    }
+
+    /**
+     * The showFailure method is called when every operation of a sort on a worker thread has been replayed.
+     * If the sort stopped with an exception, the list is only partly sorted, so the failure is shown instead.
+     * 
+     * @param queue is the OperationQueue of the sort that finished.
+     */
+    private void showFailure(OperationQueue queue){
+        if (producer == queue){
+            producer = null;
+        }
+        Throwable failure = queue.getFailure();
+        if (failure != null){
+            statusLabel.setText(String.format("%s failed: %s", algorithm.getName(), failure));
+        }
+    }
+
+    /**
+     * The singleStep method practices one step of the sorting algorithm.
+     * For example, a step is one comparison for bubble sort and one write for merge sort.
+     */
+    @FXML
+    private void singleStep(){
+        if (stepper != null && !scheduler.isRunning()){
+            long start = System.nanoTime();
+            stepper.step(stepUpdater);
+            if (metricsEnabled){
+                metrics.addNanos(System.nanoTime() - start);
+                showMetrics();
+            }
+        }
+    }
+
+    /**
+     * The singlePass method animates the rest of the current pass of the sorting algorithm with the playback scheduler.
+     * For example, a pass is one sweep over the list for bubble sort and one merge width for merge sort.
+     */
+    @FXML
+    private void singlePass(){
+        if (stepper != null){
+            scheduler.play(stepper, stepUpdater, true);
+        }
+    }
+
+    /**
+     * The resetStepper method starts the step-by-step sorting over on the current values.
+     * It is called every time the values are replaced or reordered outside of the stepper.
+     */
+    private void resetStepper(){
+        if (algorithm != null && algorithm.hasCapability(SortCapability.STEPPABLE)){
+            stepper = algorithm.stepper(values);
+        } else{
+            stepper = null;
+        }
+        metrics.reset(); // a new run starts
+        showMetrics();
+    }
+
+    /**
+     * The togglePause method pauses the running animation, or resumes it if it is already paused.
+     */
+    @FXML
+    private void togglePause(){
+        if (scheduler.isPaused()){
+            scheduler.resume();
+            pauseButton.setText("Pause");
+        } else if (scheduler.isRunning()){
+            scheduler.pause();
+            pauseButton.setText("Resume");
+        }
+    }
+
+    /**
+     * The cancelAnimation method stops the running animation where it is, and drops the result of a sort running in the background.
+     */
+    @FXML
+    private void cancelAnimation(){
+        scheduler.cancel();
+        if (producer != null){ // stops the worker thread
+            producer.cancel();
+            producer = null;
+        }
+        runId++;
+        pauseButton.setText("Pause");
+        stopStream();
+    }
+
+    /**
+     * The toggleStream method starts streaming batches of the chosen distribution into a top k, 
+     * or stops the stream if it is running.
+     * The method process the input to check if k is a valid natural number, 
+     * then shows the k smallest or largest values streamed so far, in order, on every pulse.
+     */
+    @FXML
+    private void toggleStream(){
+        if (topK != null){
+            stopStream();
+            return;
+        }
+        int k;
+        try {
+            k = Integer.parseInt(topKTextField.getText().trim());
+        }
+        catch (NumberFormatException e){ // if the input is not an integer
+            topKTextField.setText("");
+            topKTextField.setPromptText("You have to input an integer!");
+            return;
+        }
+        if (k <= 0){ // if the input is not a natural number
+            topKTextField.setText("");
+            topKTextField.setPromptText("You have to input a natural number!");
+            return;
+        }
+        InputGenerator generator = readGenerator();
+        if (generator == null){ // the range or the seed is not valid
+            return;
+        }
+        cancelAnimation();
+        closeTrace(); // the trace belongs to the old list
+        resetBackground();
+        topK = new TopK(k, largestCheckBox.isSelected());
+        streamGenerator = generator;
+        streamSeeds = new Random(random.nextLong());
+        values = new int[0];
+        streamButton.setText("Stop stream");
+        streamer.start();
+    }
+
+    /**
+     * The streamBatch method streams one batch into the top k, and shows the top k in the table and the chart.
+     * The first batch uses the seed of the user, and the next batches use seeds drawn from it.
+     */
+    private void streamBatch(){
+        if (topK.getCount() > 0){
+            streamGenerator.setSeed(streamSeeds.nextLong());
+        }
+        topK.addAll(streamGenerator.generate(STREAM_BATCH));
+        boolean first = values.length == 0;
+        values = topK.toSortedArray();
+        list.setAll(values);
+        selectChart();
+        if (first){
+            chartModel.setValues(values);
+        } else{
+            chartModel.refresh(values); // only the bars that changed are updated
+        }
+        statusLabel.setText(String.format("%s %d of %,d streamed values", 
+                topK.isLargest() ? "Largest" : "Smallest", topK.size(), topK.getCount()));
+    }
+
+    /**
+     * The stopStream method stops the stream, and keeps the top k in the list so it can be sorted or raced.
+     */
+    private void stopStream(){
+        if (topK == null){
+            return;
+        }
+        streamer.stop();
+        topK = null;
+        streamGenerator = null;
+        streamButton.setText("Stream top k");
+        resetStepper();
+    }
+
+    /**
+     * The setSpeed method takes in the user input of steps per second for the animations.
+     */
+    @FXML
+    private void setSpeed(){
+        try {
+            double speed = Double.parseDouble(speedTextField.getText());
+            if (speed <= 0 || Double.isNaN(speed) || Double.isInfinite(speed)){ // if the input is not a positive number
+                speedTextField.setText("");
+                speedTextField.setPromptText("You have to input a positive number!");
+            } else{ // valid input
+                scheduler.setOpsPerSecond(speed);
+            }
+        }
+        catch (NumberFormatException e){ // if the input is not a number
+            speedTextField.setText("");
+            speedTextField.setPromptText("You have to input a number!");
+        }
+    }
+
+    /**
+     * The fullSpeedSort method sorts the values with the chosen algorithm at full speed on a background thread, 
+     * so the window does not freeze while a big list is sorted, and shows how long it took.
+     * For parallel algorithms, the same values are also sorted with the sequential counterpart, and the speedup is shown.
+     */
+    private void fullSpeedSort(){
+        cancelAnimation();
+        SortAlgorithm sortAlgorithm = algorithm;
+        int run = runId;
+        int[] sorted = values.clone(); // the thread sorts copies, the values are only touched on this thread
+        int[] sequential = sortAlgorithm.hasCapability(SortCapability.PARALLEL) ? values.clone() : null;
+        int[] counted = metricsEnabled ? values.clone() : null;
+        statusLabel.setText("Sorting...");
+        Thread sortThread = new Thread(() -> {
+            OperationCounter runMetrics = new OperationCounter();
+            if (counted != null){ // counting slows the sort down, so the counts come from a separate run on a copy
+                sortAlgorithm.sort(counted, sortAlgorithm.hasCapability(SortCapability.PARALLEL) ? runMetrics.concurrent() : runMetrics);
+            }
+
+            SortRunEvent event = new SortRunEvent(sortAlgorithm.getName(), sorted.length);
+            event.begin();
+            long start = System.nanoTime();
+            sortAlgorithm.sort(sorted);
+            long nanos = System.nanoTime() - start;
+            event.commit();
+
+            long sequentialNanos = 0;
+            if (sequential != null){
+                start = System.nanoTime();
+                sortAlgorithm.sequential().sort(sequential);
+                sequentialNanos = System.nanoTime() - start;
+            }
+            long sequentialTime = sequentialNanos;
+            runMetrics.addNanos(nanos);
+
+            Platform.runLater(() -> {
+                if (run != runId){ // the list was changed while sorting
+                    return;
+                }
+                System.arraycopy(sorted, 0, values, 0, values.length);
+                resetStepper();
+                if (counted != null){
+                    metrics.add(runMetrics);
+                    showMetrics();
+                }
+                resetBackground();
+                showValues();
+                if (sequential == null){
+                    statusLabel.setText(String.format("%s %.1f ms", sortAlgorithm.getName(), nanos / 1e6));
+                } else{
+                    statusLabel.setText(String.format("Parallel %.1f ms, sequential %.1f ms, speedup %.2fx",
+                            nanos / 1e6, sequentialTime / 1e6, (double) sequentialTime / Math.max(1, nanos)));
+                }
+            });
+        }, "full-speed-sort");
+        sortThread.setDaemon(true);
+        sortThread.start();
+    }
+
+    /**
+     * The recordTrace method sorts a copy of the values with the chosen algorithm on a background thread and records every operation to a trace file.
+     * When it is done, the trace slider scrubs through the sort, and the step buttons move one operation forward or backward.
+     * Parallel algorithms are not recorded, because their operations have no single order.
+     */
+    @FXML
+    private void recordTrace(){
+        if (algorithm == null){
+            return;
+        }
+        if (algorithm.hasCapability(SortCapability.PARALLEL)){
+            statusLabel.setText("Parallel sorts can not be recorded.");
+            return;
+        }
+        cancelAnimation();
+        closeTrace();
+        SortAlgorithm sortAlgorithm = algorithm;
+        int run = runId;
+        int[] recorded = values.clone();
+        statusLabel.setText("Recording...");
+        Thread recordThread = new Thread(() -> {
+            Path path = null;
+            try {
+                path = Files.createTempFile("sort", ".trace");
+                try (TraceRecorder recorder = new TraceRecorder(path, recorded)){
+                    sortAlgorithm.sort(recorded, recorder);
+                }
+                TracePlayer player = new TracePlayer(path);
+                Path playerPath = path;
+                Platform.runLater(() -> {
+                    if (run != runId){ // the list was changed while recording
+                        closeTrace(player, playerPath);
+                        return;
+                    }
+                    tracePlayer = player;
+                    tracePath = playerPath;
+                    traceSlider.setMax(player.size());
+                    traceSlider.setValue(0);
+                    setTraceDisabled(false);
+                    seekTrace(0);
+                    statusLabel.setText(String.format("Recorded %,d operations of %s", player.size(), sortAlgorithm.getName()));
+                });
+            }
+            catch (IOException | UncheckedIOException e){
+                closeTrace(null, path);
+                Platform.runLater(() -> statusLabel.setText("The trace could not be recorded: " + e.getMessage()));
+            }
+        }, "trace-recorder");
+        recordThread.setDaemon(true);
+        recordThread.start();
+    }
+
+    /**
+     * The traceStepBack method moves the trace one operation backward.
+     */
+    @FXML
+    private void traceStepBack(){
+        if (tracePlayer != null && tracePlayer.getPosition() > 0){
+            traceSlider.setValue(tracePlayer.getPosition() - 1);
+        }
+    }
+
+    /**
+     * The traceStepForward method moves the trace one operation forward.
+     */
+    @FXML
+    private void traceStepForward(){
+        if (tracePlayer != null && tracePlayer.getPosition() < tracePlayer.size()){
+            traceSlider.setValue(tracePlayer.getPosition() + 1);
+        }
+    }
+
+    /**
+     * The seekTrace method shows the values of the trace after a number of operations, and highlights the last of them.
+     * The step-by-step sorting starts over from the values shown.
+     * 
+     * @param position is a long value which is the number of operations of the trace to apply.
+     */
+    private void seekTrace(long position){
+        if (tracePlayer == null){
+            return;
+        }
+        cancelAnimation();
+        try {
+            tracePlayer.seek(position);
+        }
+        catch (IOException e){
+            statusLabel.setText("The trace could not be read: " + e.getMessage());
+            return;
+        }
+        System.arraycopy(tracePlayer.getValues(), 0, values, 0, values.length);
+        resetStepper();
+        resetBackground();
+        showValues();
+        tracePlayer.reportLast(traceHighlighter);
+        traceLabel.setText(String.format("%,d / %,d", tracePlayer.getPosition(), tracePlayer.size()));
+    }
+
+    /**
+     * The closeTrace method closes the recorded trace and deletes its files, and disables the trace controls.
+     */
+    private void closeTrace(){
+        closeTrace(tracePlayer, tracePath);
+        tracePlayer = null;
+        tracePath = null;
+        setTraceDisabled(true);
+        traceLabel.setText("");
+    }
+
+    /**
+     * The closeTrace method closes a trace player and deletes the trace files.
+     * 
+     * @param player is the TracePlayer to close, or null.
+     * @param path is the Path of the trace file to delete, or null.
+     */
+    private static void closeTrace(TracePlayer player, Path path){
+        try {
+            if (player != null){
+                player.close();
+            }
+            if (path != null){
+                TraceRecorder.delete(path);
+            }
+        }
+        catch (IOException e){
+            // the files are temporary, there is nothing more to do
+        }
+    }
+
+    /**
+     * The setTraceDisabled method disables or enables the trace slider and the trace step buttons.
+     * 
+     * @param disabled is a boolean value which is true if the controls should be disabled.
+     */
+    private void setTraceDisabled(boolean disabled){
+        traceSlider.setDisable(disabled);
+        stepBackButton.setDisable(disabled);
+        stepForwardButton.setDisable(disabled);
+    }
+
+    /**
+     * The toggleMetrics method turns the operation counters on or off.
+     * When they are off, no counting happens while sorting.
+     */
+    @FXML
+    private void toggleMetrics(){
+        metricsEnabled = metricsCheckBox.isSelected();
+        metrics.reset();
+        showMetrics();
+    }
+
+    /**
+     * The showMetrics method shows the figures of the current run next to the bar chart.
+     */
+    private void showMetrics(){
+        metricsLabel.setText(metricsEnabled ? metrics.toString() : "");
+    }
+
+    /**
+     * The showValues method copies the values that the sort engine works on into the list with one change event, and updates the chart.
+     * It is called after the values are reordered without replaying every operation.
+     */
+    private void showValues(){
+        list.setAll(values);
+        updateChart();
+    }
+
+    /**
+     * The updateBackground method highlights the table cells of two list elements.
+     * 
+     * @param role is the Role that tells why the cells are highlighted.
+     * @param index1 is an integer value which is the first index of the list element that the cell background needs to be updated.
+     * @param index2 is an integer value which is the second index of the list element that the cell background needs to be updated.
+     */
+    private void updateBackground(HighlightModel.Role role, int index1, int index2){
+        highlights.highlight(role, index1, index2);
+    }
+
+    /**
+     * The resetBackground method resets all of the table cell background to transparent.
+     */
+    private void resetBackground(){
+        highlights.clear();
+        chartModel.showSortedPrefix(0);
+    }
+
+    /**
+     * The selectChart method shows the bar chart for short lists, and the pixel chart for lists with more values than the bar chart can show.
+     */
+    private void selectChart(){
+        boolean pixels = values.length > BAR_CHART_LIMIT;
+        if (pixels && chartModel == barChartModel){
+            barChart.getData().clear(); // the bars are not needed anymore
+        }
+        chartModel = pixels ? pixelChartModel : barChartModel;
+        barChart.setVisible(!pixels);
+        pixelChart.setVisible(pixels);
+    }
+
+    /**
+     * The updateChart method updates the chart to represent the current list shown in the table (in the same order).
+     * The existing bars are reused, only the bars whose values changed are updated.
+     */
+    private void updateChart(){
+        chartModel.refresh(values);
+    }
+
+    /**
+     * The autoSort method sorts the list in the table all in once without any animation, with the chosen algorithm at full speed.
+     */
+    @FXML
+    private void autoSort(){
+        if (algorithm != null){
+            fullSpeedSort();
+        }
+    }
+
+    /**
+     * The randomize method randomizes the order of the list, resets the background, and updates the chart.
+     */
+    @FXML
+    private void randomize(){
+        cancelAnimation();
+        for (int i = values.length - 1; i > 0; i--){ // Fisher-Yates shuffle of the values
+            int j = random.nextInt(i + 1);
+            int temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+        resetStepper();
+        resetBackground();
+        showValues();
+    }
+
+    /**
+     * The showPrompt method enables the text field to still show the prompt text even when it is focused.
+     * 
+     * @param textFieldIn is the text field that needs to show the prompt text.
+     */
+    protected static void showPrompt(TextField textFieldIn){
+        textFieldIn.styleProperty().bind(
+            Bindings
+                    .when(textFieldIn.focusedProperty())
+                    .then("-fx-prompt-text-fill: derive(-fx-control-inner-background, -30%);")
+                    .otherwise("-fx-prompt-text-fill: derive(-fx-control-inner-background, -30%);"));
+    }
+
+    /**
+     * The switchToPrimary method switches the scene to primary.
+     * 
+     * @exception IOException if the stream is corrupted or errors occurred during reading the data (connecting to the fxml files).
+     */
+    @FXML
+    private void switchToPrimary() throws IOException {
+        cancelAnimation();
+        App.setRoot("primary");
+    }
+
+    /**
+     * The switchToRace method passes the current list to the race scene and switches to it.
+     * 
+     * @exception IOException if the stream is corrupted or errors occurred during reading the data (connecting to the fxml files).
+     */
+    @FXML
+    private void switchToRace() throws IOException {
+        cancelAnimation();
+        App.setRaceValues(values.clone());
+        App.setRoot("race");
+    }
+
+    /**
+     * The endProgram method ends the program.
+     */
+    @FXML
+    private void endProgram(){
+        cancelAnimation();
+        closeTrace();
+        Platform.exit();
+    }
+
+    /**
+     * The initialize method is called when the scene is first built.
+     * It sets the showing prompt text while focused feature for certain text fields, sets the step button to be visible, and populates the table.
+     */
+    @FXML
+    private void initialize(){
+        showPrompt(numInTextField);
+        showPrompt(speedTextField);
+        showPrompt(minTextField);
+        showPrompt(maxTextField);
+        showPrompt(seedTextField);
+        showPrompt(topKTextField);
+        distributionChoiceBox.getItems().setAll(Distribution.values());
+        distributionChoiceBox.setValue(Distribution.UNIFORM);
+        stepButton.setVisible(true);
+        barChartModel = new BarChartModel(barChart);
+        pixelChartModel = new PixelChartModel(pixelChart, PIXEL_CHART_WIDTH, PIXEL_CHART_HEIGHT);
+        chartModel = barChartModel;
+        scheduler.setOnPulse(nanos -> {
+            if (metricsEnabled){
+                metrics.addNanos(nanos);
+                showMetrics();
+            }
+        });
+        traceSlider.valueProperty().addListener((observable, oldValue, newValue) -> seekTrace(Math.round(newValue.doubleValue())));
+        populateAlgorithms();
+        populateTable();
+    }
+}
\ No newline at end of file
@@ -1,5 +0,0 @@
-module Template {
-	requires javafx.controls;
-	
-	opens application to javafx.graphics, javafx.fxml;
-}
@@ -0,0 +1,246 @@
+package vector;
+
+import engine.BlockSorter;
+import engine.ScalarBlockSorter;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This is the VectorBlockSorter class that contains the kernels of merge sort written with the Vector API.
+ * Blocks of 8, 16 and 32 ints are sorted with bitonic sorting networks on vectors of 8 lanes:
+ * every stage of the network is one shuffle, one min, one max and one blend, without any branch.
+ * Two sorted ranges are merged 8 elements at a time by a bitonic merge of the 8 smallest elements left,
+ * and the elements that do not fill a vector are merged by the scalar kernel.
+ * 
+ * @author Nicole Jin 
+ * @version 2021-12-06
+ */
+public class VectorBlockSorter implements BlockSorter {
+
+    public static final int BLOCK_LENGTH = 32;
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+    private static final int LANES = 8;
+
+    private static final VectorShuffle<Integer> PARTNER_1 = VectorShuffle.fromOp(SPECIES, i -> i ^ 1);
+    private static final VectorShuffle<Integer> PARTNER_2 = VectorShuffle.fromOp(SPECIES, i -> i ^ 2);
+    private static final VectorShuffle<Integer> PARTNER_4 = VectorShuffle.fromOp(SPECIES, i -> i ^ 4);
+    private static final VectorShuffle<Integer> REVERSE = VectorShuffle.fromOp(SPECIES, i -> LANES - 1 - i);
+
+    // the lanes that keep the bigger element in the stage that compares lanes j apart, in bitonic sequences of length k
+    private static final VectorMask<Integer> MAX_2_1 = maxLanes(2, 1);
+    private static final VectorMask<Integer> MAX_4_2 = maxLanes(4, 2);
+    private static final VectorMask<Integer> MAX_4_1 = maxLanes(4, 1);
+    private static final VectorMask<Integer> MAX_8_4 = maxLanes(8, 4);
+    private static final VectorMask<Integer> MAX_8_2 = maxLanes(8, 2);
+    private static final VectorMask<Integer> MAX_8_1 = maxLanes(8, 1);
+
+    /**
+     * The getName method is the getter method for the name of the kernels.
+     * 
+     * @return "Vector".
+     */
+    @Override
+    public String getName(){
+        return "Vector";
+    }
+
+    /**
+     * The isSupported method checks if the machine has vectors of 256 bits or more,
+     * because smaller vectors would run the networks in several pieces and be slower than the scalar kernels.
+     * 
+     * @return true if the preferred vectors have at least 256 bits.
+     */
+    @Override
+    public boolean isSupported(){
+        return IntVector.SPECIES_PREFERRED.vectorBitSize() >= SPECIES.vectorBitSize();
+    }
+
+    /**
+     * The getBlockLength method is the getter method for the length of the blocks sorted with the networks.
+     * 
+     * @return 32.
+     */
+    @Override
+    public int getBlockLength(){
+        return BLOCK_LENGTH;
+    }
+
+    /**
+     * The sortBlock method sorts a block of 8, 16 or 32 ints with a bitonic sorting network.
+     * Blocks of other lengths, like the last block of an array, are sorted with insertion sort.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param from is an integer value which is the first index of the block (inclusive).
+     * @param to is an integer value which is the last index of the block (exclusive).
+     */
+    @Override
+    public void sortBlock(int[] values, int from, int to){
+        int length = to - from;
+        if (length == 32){
+            sort32(values, from);
+        } else if (length == 16){
+            sort16(values, from);
+        } else if (length == 8){
+            sort8(IntVector.fromArray(SPECIES, values, from)).intoArray(values, from);
+        } else{
+            ScalarBlockSorter.insertionSort(values, from, to);
+        }
+    }
+
+    /**
+     * The merge method merges the two sorted ranges of the source into the destination, 8 elements at a time.
+     * The 8 biggest elements of every bitonic merge are kept in a vector and merged with the next 8 elements
+     * of the range whose next element is smaller, so every element written is smaller than the ones left.
+     * 
+     * @param source is the int array that holds the two sorted ranges.
+     * @param from1 is an integer value which is the first index of the first range.
+     * @param to1 is an integer value which is the end of the first range (exclusive).
+     * @param from2 is an integer value which is the first index of the second range.
+     * @param to2 is an integer value which is the end of the second range (exclusive).
+     * @param destination is the int array that receives the merged elements.
+     * @param at is an integer value which is the index of the destination where the first element is written.
+     */
+    @Override
+    public void merge(int[] source, int from1, int to1, int from2, int to2, int[] destination, int at){
+        if (to1 - from1 < LANES || to2 - from2 < LANES){
+            ScalarBlockSorter.mergeRanges(source, from1, to1, from2, to2, destination, at);
+            return;
+        }
+        IntVector kept = IntVector.fromArray(SPECIES, source, from1);
+        IntVector next = IntVector.fromArray(SPECIES, source, from2);
+        int i = from1 + LANES, j = from2 + LANES, k = at;
+        while (true){
+            IntVector reversed = next.rearrange(REVERSE); // kept and the reversed vector make a bitonic sequence
+            merge8(kept.min(reversed)).intoArray(destination, k);
+            kept = merge8(kept.max(reversed));
+            k += LANES;
+            boolean first = i < to1 && (j >= to2 || source[i] <= source[j]);
+            if (first ? i + LANES > to1 : j + LANES > to2){ // the range with the smaller next element does not fill a vector
+                break;
+            }
+            if (first){
+                next = IntVector.fromArray(SPECIES, source, i);
+                i += LANES;
+            } else{
+                next = IntVector.fromArray(SPECIES, source, j);
+                j += LANES;
+            }
+        }
+
+        int[] rest = new int[LANES];
+        kept.intoArray(rest, 0);
+        int r = 0;
+        while (r < LANES){ // merge the kept elements with both ranges, until they are all written
+            if (i < to1 && source[i] < rest[r] && (j >= to2 || source[i] <= source[j])){
+                destination[k++] = source[i++];
+            } else if (j < to2 && source[j] < rest[r]){
+                destination[k++] = source[j++];
+            } else{
+                destination[k++] = rest[r++];
+            }
+        }
+        ScalarBlockSorter.mergeRanges(source, i, to1, j, to2, destination, k);
+    }
+
+    /**
+     * The sort16 method sorts 16 ints of the array: two sorted vectors, one of them reversed,
+     * make a bitonic sequence, which is then merged.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param from is an integer value which is the first index of the block.
+     */
+    private static void sort16(int[] values, int from){
+        IntVector a = sort8(IntVector.fromArray(SPECIES, values, from));
+        IntVector b = sort8(IntVector.fromArray(SPECIES, values, from + LANES)).rearrange(REVERSE);
+        merge16(a, b, values, from);
+    }
+
+    /**
+     * The sort32 method sorts 32 ints of the array: both halves are sorted, the second one is read backwards
+     * so the 32 ints make a bitonic sequence, and one stage splits it into two bitonic halves that are merged.
+     * 
+     * @param values is the int array that is being sorted.
+     * @param from is an integer value which is the first index of the block.
+     */
+    private static void sort32(int[] values, int from){
+        sort16(values, from);
+        sort16(values, from + 2 * LANES);
+        IntVector a = IntVector.fromArray(SPECIES, values, from);
+        IntVector b = IntVector.fromArray(SPECIES, values, from + LANES);
+        IntVector c = IntVector.fromArray(SPECIES, values, from + 3 * LANES).rearrange(REVERSE);
+        IntVector d = IntVector.fromArray(SPECIES, values, from + 2 * LANES).rearrange(REVERSE);
+        merge16(a.min(c), b.min(d), values, from);
+        merge16(a.max(c), b.max(d), values, from + 2 * LANES);
+    }
+
+    /**
+     * The merge16 method sorts the bitonic sequence of two vectors and writes it into the array.
+     * 
+     * @param a is the IntVector of the first 8 elements of the sequence.
+     * @param b is the IntVector of the last 8 elements of the sequence.
+     * @param values is the int array that receives the 16 sorted elements.
+     * @param at is an integer value which is the index of the first element written.
+     */
+    private static void merge16(IntVector a, IntVector b, int[] values, int at){
+        merge8(a.min(b)).intoArray(values, at);
+        merge8(a.max(b)).intoArray(values, at + LANES);
+    }
+
+    /**
+     * The sort8 method sorts the lanes of a vector with the six stages of a bitonic sorting network.
+     * 
+     * @param v is the IntVector that needs to be sorted.
+     * @return the sorted IntVector.
+     */
+    private static IntVector sort8(IntVector v){
+        v = stage(v, PARTNER_1, MAX_2_1);
+        v = stage(v, PARTNER_2, MAX_4_2);
+        v = stage(v, PARTNER_1, MAX_4_1);
+        return merge8(v);
+    }
+
+    /**
+     * The merge8 method sorts the lanes of a vector that hold a bitonic sequence, with the last three stages of the network.
+     * 
+     * @param v is the IntVector of the bitonic sequence.
+     * @return the sorted IntVector.
+     */
+    private static IntVector merge8(IntVector v){
+        v = stage(v, PARTNER_4, MAX_8_4);
+        v = stage(v, PARTNER_2, MAX_8_2);
+        return stage(v, PARTNER_1, MAX_8_1);
+    }
+
+    /**
+     * The stage method compares every lane with its partner lane, and keeps the smaller or the bigger element.
+     * 
+     * @param v is the IntVector of the elements.
+     * @param partner is the VectorShuffle that moves every lane to its partner.
+     * @param maxLanes is the VectorMask of the lanes that keep the bigger element.
+     * @return the IntVector after the stage.
+     */
+    private static IntVector stage(IntVector v, VectorShuffle<Integer> partner, VectorMask<Integer> maxLanes){
+        IntVector other = v.rearrange(partner);
+        return v.min(other).blend(v.max(other), maxLanes);
+    }
+
+    /**
+     * The maxLanes method finds the lanes that keep the bigger element in a stage of the network.
+     * A lane keeps the bigger element when it is the second of its pair in an ascending sequence,
+     * or the first of its pair in a descending one.
+     * 
+     * @param k is an integer value which is the length of the bitonic sequences sorted in this stage.
+     * @param j is an integer value which is the distance between the lanes compared.
+     * @return the VectorMask of the lanes.
+     */
+    private static VectorMask<Integer> maxLanes(int k, int j){
+        boolean[] lanes = new boolean[LANES];
+        for (int i = 0; i < LANES; i++){
+            lanes[i] = ((i & j) != 0) != ((i & k) != 0);
+        }
+        return VectorMask.fromArray(SPECIES, lanes, 0);
+    }
+}